@@ -21,7 +21,6 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.content.pm.ActivityInfo;
 import android.content.res.Configuration;
-import android.preference.PreferenceManager;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -68,8 +67,7 @@ public abstract class DynamicApplication extends Application implements DynamicL
         mConfiguration = new Configuration(getResources().getConfiguration());
         DynamicTheme.initializeInstance(this);
         DynamicTheme.getInstance().addDynamicListener(this);
-        PreferenceManager.getDefaultSharedPreferences(this)
-                .registerOnSharedPreferenceChangeListener(this);
+        DynamicPreferences.getInstance().registerOnSharedPreferenceChangeListener(this);
 
         onInitialize();
         setDynamicTheme();
@@ -25,7 +25,7 @@ import android.graphics.Color;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.Handler;
-import android.preference.PreferenceManager;
+import android.view.View;
 import android.view.WindowManager;
 
 import androidx.annotation.ColorInt;
@@ -42,6 +42,7 @@ import com.pranavpandey.android.dynamic.support.listener.DynamicListener;
 import com.pranavpandey.android.dynamic.support.locale.DynamicLocale;
 import com.pranavpandey.android.dynamic.support.locale.DynamicLocaleUtils;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.preference.DynamicPreferences;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
@@ -275,7 +276,25 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
      * re-initialize the {@link DynamicTheme} with new colors, etc.
      */
     protected void onAppThemeChange() {
-        recreate();
+        if (isApplyThemeLive()) {
+            DynamicTheme.getInstance().applyTo(getWindow().getDecorView());
+        } else {
+            recreate();
+        }
+    }
+
+    /**
+     * Returns whether to apply the changed theme on the existing views instead of recreating
+     * this activity.
+     * <p>Override this method and return {@code true} if all the themed views of this activity
+     * are dynamic widgets, it will save a full recreate and inflation of this activity.
+     *
+     * @return {@code true} to apply the changed theme on the existing views.
+     *
+     * @see DynamicTheme#applyTo(View)
+     */
+    protected boolean isApplyThemeLive() {
+        return false;
     }
 
     /**
@@ -452,8 +471,7 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
         super.onResume();
 
         if (setOnSharedPreferenceChangeListener()) {
-            PreferenceManager.getDefaultSharedPreferences(this)
-                    .registerOnSharedPreferenceChangeListener(this);
+            DynamicPreferences.getInstance().registerOnSharedPreferenceChangeListener(this);
         }
 
         if (!DynamicTheme.getInstance().isDynamicListener(this)) {
@@ -471,9 +489,10 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
     private Runnable mDynamicChange = new Runnable() {
         @Override
         public void run() {
-            String theme = DynamicTheme.getInstance().getLocalTheme(
+            long theme = DynamicTheme.getInstance().getLocalThemeHash(
                     DynamicSystemActivity.this);
-            if (theme != null && !theme.equals(DynamicTheme.getInstance().toString())) {
+            if (theme != DynamicTheme.ADS_THEME_HASH_NONE
+                    && theme != DynamicTheme.getInstance().getSnapshot().getHash()) {
                 DynamicTheme.getInstance().onDynamicChange(false, true);
             } else if (mCurrentLocale != null) {
                 if (!mCurrentLocale.equals(DynamicLocaleUtils.getLocale(
@@ -487,8 +506,7 @@ public abstract class DynamicSystemActivity extends AppCompatActivity implements
     @Override
     public void onPause() {
         if (setOnSharedPreferenceChangeListener()) {
-            PreferenceManager.getDefaultSharedPreferences(this)
-                    .unregisterOnSharedPreferenceChangeListener(this);
+            DynamicPreferences.getInstance().unregisterOnSharedPreferenceChangeListener(this);
         }
         DynamicTheme.getInstance().onLocalDestroy();
         super.onPause();
@@ -45,7 +45,7 @@ public class DynamicColorsAdapter extends BaseAdapter {
     /**
      * Array of colors to be handled by this adapter.
      */
-    private @ColorInt Integer[] mDataSet;
+    private @ColorInt int[] mDataSet;
 
     /**
      * The selected color.
@@ -72,7 +72,7 @@ public class DynamicColorsAdapter extends BaseAdapter {
      * @param alpha {@code true} to enable alpha for the color.
      * @param dynamicColorListener The listener to get the callback when a color is selected.
      */
-    public DynamicColorsAdapter(@NonNull @ColorInt Integer[] colors,
+    public DynamicColorsAdapter(@NonNull @ColorInt int[] colors,
             @DynamicColorShape int colorShape, boolean alpha,
             @NonNull DynamicColorListener dynamicColorListener) {
         this(colors, Theme.ColorType.UNKNOWN, colorShape, alpha, dynamicColorListener);
@@ -87,7 +87,7 @@ public class DynamicColorsAdapter extends BaseAdapter {
      * @param alpha {@code true} to enable alpha for the color.
      * @param dynamicColorListener The listener to get the callback when a color is selected.
      */
-    public DynamicColorsAdapter(@NonNull @ColorInt Integer[] colors,
+    public DynamicColorsAdapter(@NonNull @ColorInt int[] colors,
             @ColorInt int selectedColor, @DynamicColorShape int colorShape, boolean alpha,
             @NonNull DynamicColorListener dynamicColorListener) {
         this.mDataSet = colors;
@@ -111,7 +111,7 @@ public class DynamicColorsAdapter extends BaseAdapter {
         	viewHolder = (ViewHolder) convertView.getTag();
         }
 
-        int color = (int) getItem(position);
+        int color = mDataSet[position];
         final DynamicColorView dynamicColorView = viewHolder.getDynamicColorView();
         dynamicColorView.setColor(color);
         dynamicColorView.setColorShape(mColorShape);
@@ -164,7 +164,7 @@ public class DynamicColorsAdapter extends BaseAdapter {
      *
      * @return The array of colors to be handled by this adapter.
      */
-    public @NonNull @ColorInt Integer[] getDataSet() {
+    public @NonNull @ColorInt int[] getDataSet() {
         return mDataSet;
     }
 
@@ -173,7 +173,7 @@ public class DynamicColorsAdapter extends BaseAdapter {
      *
      * @param dataSet The array of colors to be set.
      */
-    public void setDataSet(@NonNull @ColorInt Integer[] dataSet) {
+    public void setDataSet(@NonNull @ColorInt int[] dataSet) {
         this.mDataSet = dataSet;
 
         notifyDataSetChanged();
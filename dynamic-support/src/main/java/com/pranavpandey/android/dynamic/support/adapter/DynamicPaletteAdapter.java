@@ -0,0 +1,383 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.adapter;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.listener.DynamicColorListener;
+import com.pranavpandey.android.dynamic.support.model.DynamicPalette;
+import com.pranavpandey.android.dynamic.support.picker.color.DynamicColorShape;
+import com.pranavpandey.android.dynamic.support.picker.color.DynamicColorView;
+import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
+
+import java.util.List;
+
+/**
+ * A recycler view adapter to hold an array of colors and display them in a palette.
+ * <p>It uses stable ids and {@link DiffUtil} so that changing the data set or the selected
+ * color will only rebind the affected items instead of the whole palette.
+ *
+ * <p><p>The colors should be unique within a data set as they are used as stable ids.
+ */
+public class DynamicPaletteAdapter extends RecyclerView.Adapter<DynamicPaletteAdapter.ViewHolder> {
+
+    /**
+     * Payload to rebind only the selection state of an item.
+     */
+    private static final Object ADS_PAYLOAD_SELECTION = new Object();
+
+    /**
+     * Listener to get the callback when a color is selected.
+     */
+    private DynamicColorListener mDynamicColorListener;
+
+    /**
+     * Array of colors to be handled by this adapter.
+     */
+    private @ColorInt int[] mDataSet;
+
+    /**
+     * Palette to find the position of the colors handled by this adapter.
+     */
+    private DynamicPalette mPalette;
+
+    /**
+     * The selected color.
+     */
+    private @ColorInt int mSelectedColor;
+
+    /**
+     * Shape of the color swatches.
+     *
+     * @see DynamicColorShape
+     */
+    private @DynamicColorShape int mColorShape;
+
+    /**
+     * {@code true} to enable alpha for the colors.
+     */
+    private boolean mAlpha;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param colors The array of colors to be handled by this adapter.
+     * @param selectedColor The selected color.
+     * @param colorShape The shape of the color swatches.
+     * @param alpha {@code true} to enable alpha for the color.
+     * @param dynamicColorListener The listener to get the callback when a color is selected.
+     */
+    public DynamicPaletteAdapter(@NonNull @ColorInt int[] colors,
+            @ColorInt int selectedColor, @DynamicColorShape int colorShape, boolean alpha,
+            @NonNull DynamicColorListener dynamicColorListener) {
+        this.mDataSet = colors;
+        this.mPalette = new DynamicPalette(colors, null);
+        this.mSelectedColor = selectedColor;
+        this.mColorShape = colorShape;
+        this.mAlpha = alpha;
+        this.mDynamicColorListener = dynamicColorListener;
+
+        setHasStableIds(true);
+    }
+
+    @Override
+    public @NonNull ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        final ViewHolder viewHolder = new ViewHolder(LayoutInflater.from(
+                parent.getContext()).inflate(R.layout.ads_layout_color_item, parent, false));
+
+        viewHolder.getDynamicColorView().setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View view) {
+                int position = viewHolder.getAdapterPosition();
+                if (position == RecyclerView.NO_POSITION) {
+                    return;
+                }
+
+                @ColorInt int color = viewHolder.getDynamicColorView().getColor();
+                if (mDynamicColorListener != null) {
+                    mDynamicColorListener.onColorSelected(null, position, color);
+                }
+
+                setSelectedColor(color);
+            }
+        });
+
+        viewHolder.getDynamicColorView().setOnLongClickListener(new View.OnLongClickListener() {
+            @Override
+            public boolean onLongClick(View view) {
+                viewHolder.getDynamicColorView().showHint();
+                return true;
+            }
+        });
+
+        return viewHolder;
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder viewHolder, int position) {
+        DynamicColorView dynamicColorView = viewHolder.getDynamicColorView();
+        @ColorInt int color = getItem(position);
+
+        dynamicColorView.setColorShape(mColorShape);
+        dynamicColorView.setAlpha(mAlpha);
+        dynamicColorView.setColor(color);
+        bindSelection(dynamicColorView, color);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder viewHolder,
+            int position, @NonNull List<Object> payloads) {
+        if (payloads.contains(ADS_PAYLOAD_SELECTION)) {
+            bindSelection(viewHolder.getDynamicColorView(), getItem(position));
+        } else {
+            super.onBindViewHolder(viewHolder, position, payloads);
+        }
+    }
+
+    /**
+     * Bind the selection state of the color view.
+     *
+     * @param dynamicColorView The color view to be bound.
+     * @param color The color of the view.
+     */
+    private void bindSelection(@NonNull DynamicColorView dynamicColorView, @ColorInt int color) {
+        dynamicColorView.setSelected(mSelectedColor
+                != DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE && mSelectedColor == color);
+    }
+
+    @Override
+    public int getItemCount() {
+        return mDataSet.length;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return getItem(position);
+    }
+
+    /**
+     * Get the color at the supplied position.
+     *
+     * @param position The position to get the color.
+     *
+     * @return The color at the supplied position.
+     */
+    public @ColorInt int getItem(int position) {
+        return mDataSet[position];
+    }
+
+    /**
+     * Get the position of the supplied color.
+     *
+     * @param color The color to get the position.
+     *
+     * @return The position of the supplied color, otherwise {@link RecyclerView#NO_POSITION}.
+     */
+    public int getPosition(@ColorInt int color) {
+        int position = mPalette.indexOf(color);
+
+        return position != DynamicPalette.ADS_POSITION_UNKNOWN
+                ? position : RecyclerView.NO_POSITION;
+    }
+
+    /**
+     * Get the data set handled by this adapter.
+     *
+     * @return The array of colors to be handled by this adapter.
+     */
+    public @NonNull @ColorInt int[] getDataSet() {
+        return mDataSet;
+    }
+
+    /**
+     * Sets array of colors to be handled by this adapter.
+     * <p>Only the items which have been changed will be rebound.
+     *
+     * @param dataSet The array of colors to be set.
+     * @param selectedColor The color to be selected.
+     */
+    public void setDataSet(@NonNull @ColorInt final int[] dataSet,
+            @ColorInt final int selectedColor) {
+        final int[] oldDataSet = mDataSet;
+        final int oldSelectedColor = mSelectedColor;
+
+        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldDataSet.length;
+            }
+
+            @Override
+            public int getNewListSize() {
+                return dataSet.length;
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return oldDataSet[oldItemPosition] == dataSet[newItemPosition];
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                int color = dataSet[newItemPosition];
+                return (color == oldSelectedColor) == (color == selectedColor);
+            }
+
+            @Override
+            public @Nullable Object getChangePayload(int oldItemPosition, int newItemPosition) {
+                return ADS_PAYLOAD_SELECTION;
+            }
+        });
+
+        this.mDataSet = dataSet;
+        this.mPalette = new DynamicPalette(dataSet, null);
+        this.mSelectedColor = selectedColor;
+        diffResult.dispatchUpdatesTo(this);
+    }
+
+    /**
+     * Get the dynamic color listener.
+     *
+     * @return The listener to get the callback when a color is selected.
+     */
+    public DynamicColorListener getDynamicColorListener() {
+        return mDynamicColorListener;
+    }
+
+    /**
+     * Sets the listener to get the callback when a color is selected.
+     *
+     * @param dynamicColorListener The listener to be set.
+     */
+    public void setDynamicColorListener(
+            @NonNull DynamicColorListener dynamicColorListener) {
+        this.mDynamicColorListener = dynamicColorListener;
+    }
+
+    /**
+     * Get the selected color.
+     *
+     * @return The selected color.
+     */
+    public int getSelectedColor() {
+        return mSelectedColor;
+    }
+
+    /**
+     * Sets the selected color.
+     * <p>Only the previous and the new selected items will be rebound.
+     *
+     * @param selectedColor The color to be selected.
+     */
+    public void setSelectedColor(@ColorInt int selectedColor) {
+        if (mSelectedColor == selectedColor) {
+            return;
+        }
+
+        int oldPosition = getPosition(mSelectedColor);
+        int newPosition = getPosition(selectedColor);
+        this.mSelectedColor = selectedColor;
+
+        if (oldPosition != RecyclerView.NO_POSITION) {
+            notifyItemChanged(oldPosition, ADS_PAYLOAD_SELECTION);
+        }
+
+        if (newPosition != RecyclerView.NO_POSITION) {
+            notifyItemChanged(newPosition, ADS_PAYLOAD_SELECTION);
+        }
+    }
+
+    /**
+     * Get the shape of the color swatches.
+     *
+     * @return The shape of the color swatches.
+     */
+    public @DynamicColorShape int getColorShape() {
+        return mColorShape;
+    }
+
+    /**
+     * Sets the shape of the color swatches.
+     *
+     * @param colorShape The color shape to be set.
+     */
+    public void setColorShape(@DynamicColorShape int colorShape) {
+        this.mColorShape = colorShape;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Checks whether alpha is enabled for the colors.
+     *
+     * @return {@code true} to enable alpha for the colors.
+     */
+    public boolean isAlpha() {
+        return mAlpha;
+    }
+
+    /**
+     * Sets the alpha support for the colors.
+     *
+     * @param alpha {@code true} to enable alpha.
+     */
+    public void setAlpha(boolean alpha) {
+        this.mAlpha = alpha;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * View holder class to hold the color view.
+     */
+    public static class ViewHolder extends RecyclerView.ViewHolder {
+
+        /**
+         * Color view to display color on the palette.
+         */
+        private final DynamicColorView dynamicColorView;
+
+        /**
+         * Constructor to initialize views from the supplied layout.
+         *
+         * @param view The view for this view holder.
+         */
+        ViewHolder(@NonNull View view) {
+            super(view);
+
+            dynamicColorView = view.findViewById(R.id.ads_color_item_view);
+        }
+
+        /**
+         * Get the color view to display color on the palette.
+         *
+         * @return The color view to display color on the palette.
+         */
+        public @NonNull DynamicColorView getDynamicColorView() {
+            return dynamicColorView;
+        }
+    }
+}
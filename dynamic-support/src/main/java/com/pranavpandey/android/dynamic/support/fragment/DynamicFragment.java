@@ -22,7 +22,6 @@ import android.content.Intent;
 import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.os.Parcelable;
-import android.preference.PreferenceManager;
 
 import androidx.annotation.IdRes;
 import androidx.annotation.NonNull;
@@ -32,6 +31,7 @@ import androidx.fragment.app.Fragment;
 
 import com.pranavpandey.android.dynamic.support.activity.DynamicActivity;
 import com.pranavpandey.android.dynamic.support.activity.DynamicDrawerActivity;
+import com.pranavpandey.android.dynamic.support.preference.DynamicPreferences;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 
 /**
@@ -56,16 +56,14 @@ public class DynamicFragment extends Fragment implements
         super.onAttach(context);
 
         if (setSharedPreferenceChangeListener()) {
-            PreferenceManager.getDefaultSharedPreferences(getActivity())
-                    .registerOnSharedPreferenceChangeListener(this);
+            DynamicPreferences.getInstance().registerOnSharedPreferenceChangeListener(this);
         }
     }
 
     @Override
     public void onDetach() {
         if (setSharedPreferenceChangeListener()) {
-            PreferenceManager.getDefaultSharedPreferences(getActivity())
-                    .unregisterOnSharedPreferenceChangeListener(this);
+            DynamicPreferences.getInstance().unregisterOnSharedPreferenceChangeListener(this);
         }
         super.onDetach();
     }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.listener;
+
+import android.content.Context;
+import android.util.AttributeSet;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * An interface to create a view for the supplied tag name during inflation.
+ * <p>It can be registered with the {@link com.pranavpandey.android.dynamic.support.theme.DynamicTheme}
+ * to replace the original views with the custom views.
+ */
+public interface DynamicViewConstructor {
+
+    /**
+     * This method will be called to create a view for the supplied tag name.
+     *
+     * @param parent The parent view, if any.
+     * @param name The tag name of the view being inflated.
+     * @param context The context for the view.
+     * @param attrs The attribute set for the view.
+     *
+     * @return The created view or {@code null} to create the default dynamic view, if any,
+     *         otherwise let the inflater handle it.
+     */
+    @Nullable View onCreateView(@Nullable View parent, @NonNull String name,
+            @NonNull Context context, @NonNull AttributeSet attrs);
+}
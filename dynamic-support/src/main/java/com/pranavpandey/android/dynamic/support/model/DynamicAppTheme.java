@@ -23,12 +23,9 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
 import androidx.annotation.StyleRes;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
 import com.pranavpandey.android.dynamic.support.annotation.Exclude;
-import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeTypeAdapter;
-import com.pranavpandey.android.dynamic.support.strategy.ExcludeStrategy;
+import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeCodec;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
@@ -46,6 +43,18 @@ public class DynamicAppTheme implements Parcelable {
      */
     public static final int AUTO = Theme.AUTO;
 
+    /**
+     * Index of the resolved corner radius after all the color types.
+     */
+    private static final int ADS_RESOLVED_CORNER_RADIUS =
+            Theme.ColorType.TEXT_SECONDARY_INVERSE + 1;
+
+    /**
+     * Index of the resolved background aware after all the color types.
+     */
+    private static final int ADS_RESOLVED_BACKGROUND_AWARE =
+            Theme.ColorType.TEXT_SECONDARY_INVERSE + 2;
+
     /**
      * DynamicAppTheme resource used by this theme.
      */
@@ -149,6 +158,36 @@ public class DynamicAppTheme implements Parcelable {
     @SerializedName(DynamicThemeUtils.ADS_NAME_BACKGROUND_AWARE)
     private @Theme.BackgroundAware int backgroundAware;
 
+    /**
+     * Number of times this theme has been modified after its creation.
+     */
+    @Exclude
+    private transient int modifications;
+
+    /**
+     * Resolved auto values of this theme indexed by the {@link Theme.ColorType}.
+     */
+    @Exclude
+    private transient int[] resolvedValues;
+
+    /**
+     * Bits of the values which have been resolved and stored in the resolved values.
+     */
+    @Exclude
+    private transient int resolvedFlags;
+
+    /**
+     * Default theme used to resolve the auto values.
+     */
+    @Exclude
+    private transient DynamicAppTheme resolvedDefault;
+
+    /**
+     * Modifications of the default theme at the time of resolving the auto values.
+     */
+    @Exclude
+    private transient int resolvedDefaultModifications;
+
     /**
      * Constructor to initialize an object of this class.
      */
@@ -178,10 +217,7 @@ public class DynamicAppTheme implements Parcelable {
      * @param theme The dynamic string to initialize the instance.
      */
     public DynamicAppTheme(@NonNull String theme) throws Exception {
-        this(new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
-                .registerTypeAdapter(DynamicAppTheme.class, new DynamicThemeTypeAdapter<>())
-                .create().fromJson(DynamicThemeUtils
-                        .formatDynamicTheme(theme), DynamicAppTheme.class));
+        this(DynamicThemeCodec.fromDynamicString(theme));
     }
 
     /**
@@ -388,6 +424,75 @@ public class DynamicAppTheme implements Parcelable {
         dest.writeInt(backgroundAware);
     }
 
+    /**
+     * Returns the number of times this theme has been modified after its creation.
+     * <p>It can be used to detect the changes without comparing all the values.
+     *
+     * @return The number of times this theme has been modified.
+     */
+    public int getModifications() {
+        return modifications;
+    }
+
+    /**
+     * This method will be called on modifying any value of this theme.
+     * <p>Override this method to invalidate the values derived from this theme.
+     */
+    protected void invalidate() {
+        modifications++;
+        resolvedFlags = 0;
+    }
+
+    /**
+     * Checks whether the auto value has already been resolved.
+     * <p>All the resolved values will be discarded if the default theme has been changed or
+     * modified since they were resolved.
+     *
+     * @param index The index of the value to be checked.
+     *
+     * @return {@code true} if the auto value has already been resolved.
+     */
+    private boolean isResolved(int index) {
+        DynamicAppTheme defaultTheme = DynamicTheme.getInstance().getDefault();
+
+        if (defaultTheme != resolvedDefault || (defaultTheme != null
+                && defaultTheme.getModifications() != resolvedDefaultModifications)) {
+            resolvedDefault = defaultTheme;
+            resolvedDefaultModifications = defaultTheme != null
+                    ? defaultTheme.getModifications() : 0;
+            resolvedFlags = 0;
+        }
+
+        return (resolvedFlags & 1 << index) != 0;
+    }
+
+    /**
+     * Returns the resolved auto value.
+     *
+     * @param index The index of the resolved value.
+     *
+     * @return The resolved auto value.
+     */
+    private int getResolved(int index) {
+        return resolvedValues[index];
+    }
+
+    /**
+     * Store the resolved auto value so that it can be reused until this theme or its
+     * default theme is modified.
+     *
+     * @param index The index of the resolved value.
+     * @param value The resolved value to be stored.
+     */
+    private void setResolved(int index, int value) {
+        if (resolvedValues == null) {
+            resolvedValues = new int[ADS_RESOLVED_BACKGROUND_AWARE + 1];
+        }
+
+        resolvedValues[index] = value;
+        resolvedFlags |= 1 << index;
+    }
+
     /**
      * @return The theme resource used by this theme.
      */
@@ -404,6 +509,7 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @NonNull DynamicAppTheme setThemeRes(@StyleRes int themeRes) {
         this.themeRes = themeRes;
+        invalidate();
 
         return this;
     }
@@ -415,12 +521,17 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getBackgroundColor(boolean resolve) {
         if (resolve && backgroundColor == AUTO) {
-            if (DynamicTheme.getInstance().getDefault().getBackgroundColor() == AUTO) {
-                throw new IllegalArgumentException(
-                        "Background color cannot be auto for the default theme.");
+            if (!isResolved(Theme.ColorType.BACKGROUND)) {
+                if (DynamicTheme.getInstance().getDefault().getBackgroundColor() == AUTO) {
+                    throw new IllegalArgumentException(
+                            "Background color cannot be auto for the default theme.");
+                }
+
+                setResolved(Theme.ColorType.BACKGROUND,
+                        DynamicTheme.getInstance().getDefault().getBackgroundColor());
             }
 
-            return DynamicTheme.getInstance().getDefault().getBackgroundColor();
+            return getResolved(Theme.ColorType.BACKGROUND);
         }
 
         return backgroundColor;
@@ -446,6 +557,7 @@ public class DynamicAppTheme implements Parcelable {
     public @NonNull DynamicAppTheme setBackgroundColor(
             @ColorInt int backgroundColor, boolean generateTint) {
         this.backgroundColor = backgroundColor;
+        invalidate();
         if (generateTint && backgroundColor != AUTO) {
             setTintBackgroundColor(DynamicColorUtils.getTintColor(backgroundColor));
         }
@@ -477,7 +589,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getPrimaryColor(boolean resolve) {
         if (resolve && primaryColor == AUTO) {
-            return DynamicTheme.getInstance().getDefault().getPrimaryColor();
+            if (!isResolved(Theme.ColorType.PRIMARY)) {
+                setResolved(Theme.ColorType.PRIMARY,
+                        DynamicTheme.getInstance().getDefault().getPrimaryColor());
+            }
+
+            return getResolved(Theme.ColorType.PRIMARY);
         }
 
         return primaryColor;
@@ -505,6 +622,7 @@ public class DynamicAppTheme implements Parcelable {
     public @NonNull DynamicAppTheme setPrimaryColor(
             @ColorInt int primaryColor, boolean generateTint) {
         this.primaryColor = primaryColor;
+        invalidate();
         if (generateTint && primaryColor != AUTO) {
             setTintPrimaryColor(DynamicColorUtils.getTintColor(primaryColor));
         }
@@ -536,7 +654,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getPrimaryColorDark(boolean resolve) {
         if (resolve && primaryColorDark == AUTO) {
-            return DynamicTheme.getInstance().generateDarkColor(getPrimaryColor());
+            if (!isResolved(Theme.ColorType.PRIMARY_DARK)) {
+                setResolved(Theme.ColorType.PRIMARY_DARK,
+                        DynamicTheme.getInstance().generateDarkColor(getPrimaryColor()));
+            }
+
+            return getResolved(Theme.ColorType.PRIMARY_DARK);
         }
 
         return primaryColorDark;
@@ -564,6 +687,7 @@ public class DynamicAppTheme implements Parcelable {
     public @NonNull DynamicAppTheme setPrimaryColorDark(
             @ColorInt int primaryColorDark, boolean generateTint) {
         this.primaryColorDark = primaryColorDark;
+        invalidate();
         if (generateTint && primaryColorDark != AUTO) {
             setTintPrimaryColorDark(DynamicColorUtils.getTintColor(primaryColorDark));
         }
@@ -595,7 +719,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getAccentColor(boolean resolve) {
         if (resolve && accentColor == AUTO) {
-            return DynamicTheme.getInstance().getDefault().getAccentColor();
+            if (!isResolved(Theme.ColorType.ACCENT)) {
+                setResolved(Theme.ColorType.ACCENT,
+                        DynamicTheme.getInstance().getDefault().getAccentColor());
+            }
+
+            return getResolved(Theme.ColorType.ACCENT);
         }
 
         return accentColor;
@@ -623,6 +752,7 @@ public class DynamicAppTheme implements Parcelable {
     public @NonNull DynamicAppTheme setAccentColor(
             @ColorInt int accentColor, boolean generateTint) {
         this.accentColor = accentColor;
+        invalidate();
         if (generateTint && accentColor != AUTO) {
             setTintAccentColor(DynamicColorUtils.getTintColor(accentColor));
         }
@@ -654,7 +784,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getAccentColorDark(boolean resolve) {
         if (resolve && accentColorDark == AUTO) {
-            return DynamicTheme.getInstance().generateDarkColor(getAccentColor());
+            if (!isResolved(Theme.ColorType.ACCENT_DARK)) {
+                setResolved(Theme.ColorType.ACCENT_DARK,
+                        DynamicTheme.getInstance().generateDarkColor(getAccentColor()));
+            }
+
+            return getResolved(Theme.ColorType.ACCENT_DARK);
         }
 
         return accentColorDark;
@@ -682,6 +817,7 @@ public class DynamicAppTheme implements Parcelable {
     public @NonNull DynamicAppTheme setAccentColorDark(
             @ColorInt int accentColorDark, boolean generateTint) {
         this.accentColorDark = accentColorDark;
+        invalidate();
         if (generateTint && accentColorDark != AUTO) {
             setTintAccentColorDark(DynamicColorUtils.getTintColor(accentColorDark));
         }
@@ -713,7 +849,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getTintBackgroundColor(boolean resolve) {
         if (resolve && tintBackgroundColor == AUTO) {
-            return DynamicColorUtils.getTintColor(getBackgroundColor());
+            if (!isResolved(Theme.ColorType.TINT_BACKGROUND)) {
+                setResolved(Theme.ColorType.TINT_BACKGROUND,
+                        DynamicColorUtils.getTintColor(getBackgroundColor()));
+            }
+
+            return getResolved(Theme.ColorType.TINT_BACKGROUND);
         }
 
         return tintBackgroundColor;
@@ -737,6 +878,7 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @NonNull DynamicAppTheme setTintBackgroundColor(@ColorInt int tintBackgroundColor) {
         this.tintBackgroundColor = tintBackgroundColor;
+        invalidate();
 
         return this;
     }
@@ -750,7 +892,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getTintPrimaryColor(boolean resolve) {
         if (resolve && tintPrimaryColor == AUTO) {
-            return DynamicColorUtils.getTintColor(getPrimaryColor());
+            if (!isResolved(Theme.ColorType.TINT_PRIMARY)) {
+                setResolved(Theme.ColorType.TINT_PRIMARY,
+                        DynamicColorUtils.getTintColor(getPrimaryColor()));
+            }
+
+            return getResolved(Theme.ColorType.TINT_PRIMARY);
         }
 
         return tintPrimaryColor;
@@ -774,6 +921,7 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @NonNull DynamicAppTheme setTintPrimaryColor(@ColorInt int tintPrimaryColor) {
         this.tintPrimaryColor = tintPrimaryColor;
+        invalidate();
 
         return this;
     }
@@ -787,7 +935,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getTintPrimaryColorDark(boolean resolve) {
         if (resolve && tintPrimaryColorDark == AUTO) {
-            return DynamicColorUtils.getTintColor(getPrimaryColorDark());
+            if (!isResolved(Theme.ColorType.TINT_PRIMARY_DARK)) {
+                setResolved(Theme.ColorType.TINT_PRIMARY_DARK,
+                        DynamicColorUtils.getTintColor(getPrimaryColorDark()));
+            }
+
+            return getResolved(Theme.ColorType.TINT_PRIMARY_DARK);
         }
 
         return tintPrimaryColorDark;
@@ -811,6 +964,7 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @NonNull DynamicAppTheme setTintPrimaryColorDark(@ColorInt int tintPrimaryColorDark) {
         this.tintPrimaryColorDark = tintPrimaryColorDark;
+        invalidate();
 
         return this;
     }
@@ -824,7 +978,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getTintAccentColor(boolean resolve) {
         if (resolve && tintAccentColor == AUTO) {
-            return DynamicColorUtils.getTintColor(getAccentColor());
+            if (!isResolved(Theme.ColorType.TINT_ACCENT)) {
+                setResolved(Theme.ColorType.TINT_ACCENT,
+                        DynamicColorUtils.getTintColor(getAccentColor()));
+            }
+
+            return getResolved(Theme.ColorType.TINT_ACCENT);
         }
 
         return tintAccentColor;
@@ -848,6 +1007,7 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @NonNull DynamicAppTheme setTintAccentColor(@ColorInt int tintAccentColor) {
         this.tintAccentColor = tintAccentColor;
+        invalidate();
 
         return this;
     }
@@ -861,7 +1021,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getTintAccentColorDark(boolean resolve) {
         if (resolve && tintAccentColorDark == AUTO) {
-            return DynamicColorUtils.getTintColor(getAccentColorDark());
+            if (!isResolved(Theme.ColorType.TINT_ACCENT_DARK)) {
+                setResolved(Theme.ColorType.TINT_ACCENT_DARK,
+                        DynamicColorUtils.getTintColor(getAccentColorDark()));
+            }
+
+            return getResolved(Theme.ColorType.TINT_ACCENT_DARK);
         }
 
         return tintAccentColorDark;
@@ -885,6 +1050,7 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @NonNull DynamicAppTheme setTintAccentColorDark(@ColorInt int tintAccentColorDark) {
         this.tintAccentColorDark = tintAccentColorDark;
+        invalidate();
 
         return this;
     }
@@ -899,7 +1065,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getTextPrimaryColor(boolean resolve) {
         if (resolve && textPrimaryColor == AUTO) {
-            return DynamicTheme.getInstance().getDefault().getTextPrimaryColor();
+            if (!isResolved(Theme.ColorType.TEXT_PRIMARY)) {
+                setResolved(Theme.ColorType.TEXT_PRIMARY,
+                        DynamicTheme.getInstance().getDefault().getTextPrimaryColor());
+            }
+
+            return getResolved(Theme.ColorType.TEXT_PRIMARY);
         }
 
         return textPrimaryColor;
@@ -927,6 +1098,7 @@ public class DynamicAppTheme implements Parcelable {
     public @NonNull DynamicAppTheme setTextPrimaryColor(
             @ColorInt int textPrimaryColor, boolean generateInverse) {
         this.textPrimaryColor = textPrimaryColor;
+        invalidate();
         if (generateInverse && textPrimaryColor != AUTO) {
             setTextPrimaryColorInverse(DynamicColorUtils.getTintColor(textPrimaryColor));
         }
@@ -958,7 +1130,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getTextSecondaryColor(boolean resolve) {
         if (resolve && textSecondaryColor == AUTO) {
-            return DynamicTheme.getInstance().getDefault().getTextSecondaryColor();
+            if (!isResolved(Theme.ColorType.TEXT_SECONDARY)) {
+                setResolved(Theme.ColorType.TEXT_SECONDARY,
+                        DynamicTheme.getInstance().getDefault().getTextSecondaryColor());
+            }
+
+            return getResolved(Theme.ColorType.TEXT_SECONDARY);
         }
 
         return textSecondaryColor;
@@ -986,6 +1163,7 @@ public class DynamicAppTheme implements Parcelable {
     public @NonNull DynamicAppTheme setTextSecondaryColor(
             @ColorInt int textSecondaryColor, boolean generateInverse) {
         this.textSecondaryColor = textSecondaryColor;
+        invalidate();
         if (generateInverse && textSecondaryColor != AUTO) {
             setTextSecondaryColorInverse(DynamicColorUtils.getTintColor(textSecondaryColor));
         }
@@ -1017,7 +1195,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getTextPrimaryColorInverse(boolean resolve) {
         if (resolve && textPrimaryColorInverse == AUTO) {
-            return DynamicColorUtils.getTintColor(getTextPrimaryColor());
+            if (!isResolved(Theme.ColorType.TEXT_PRIMARY_INVERSE)) {
+                setResolved(Theme.ColorType.TEXT_PRIMARY_INVERSE,
+                        DynamicColorUtils.getTintColor(getTextPrimaryColor()));
+            }
+
+            return getResolved(Theme.ColorType.TEXT_PRIMARY_INVERSE);
         }
 
         return textPrimaryColorInverse;
@@ -1041,6 +1224,7 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @NonNull DynamicAppTheme setTextPrimaryColorInverse(int textPrimaryColorInverse) {
         this.textPrimaryColorInverse = textPrimaryColorInverse;
+        invalidate();
 
         return this;
     }
@@ -1054,7 +1238,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @ColorInt int getTextSecondaryColorInverse(boolean resolve) {
         if (resolve && textSecondaryColorInverse == AUTO) {
-            return DynamicColorUtils.getTintColor(getTextSecondaryColor());
+            if (!isResolved(Theme.ColorType.TEXT_SECONDARY_INVERSE)) {
+                setResolved(Theme.ColorType.TEXT_SECONDARY_INVERSE,
+                        DynamicColorUtils.getTintColor(getTextSecondaryColor()));
+            }
+
+            return getResolved(Theme.ColorType.TEXT_SECONDARY_INVERSE);
         }
 
         return textSecondaryColorInverse;
@@ -1078,6 +1267,7 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @NonNull DynamicAppTheme setTextSecondaryColorInverse(int textSecondaryColorInverse) {
         this.textSecondaryColorInverse = textSecondaryColorInverse;
+        invalidate();
 
         return this;
     }
@@ -1091,7 +1281,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public int getCornerRadius(boolean resolve) {
         if (resolve && cornerRadius == AUTO) {
-            return DynamicTheme.getInstance().getDefault().getCornerRadius();
+            if (!isResolved(ADS_RESOLVED_CORNER_RADIUS)) {
+                setResolved(ADS_RESOLVED_CORNER_RADIUS,
+                        DynamicTheme.getInstance().getDefault().getCornerRadius());
+            }
+
+            return getResolved(ADS_RESOLVED_CORNER_RADIUS);
         }
 
         return cornerRadius;
@@ -1124,6 +1319,7 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @NonNull DynamicAppTheme setCornerRadius(int cornerRadius) {
         this.cornerRadius = cornerRadius;
+        invalidate();
 
         return this;
     }
@@ -1149,7 +1345,12 @@ public class DynamicAppTheme implements Parcelable {
      */
     public @Theme.BackgroundAware int getBackgroundAware(boolean resolve) {
         if (resolve && backgroundAware == Theme.BackgroundAware.AUTO) {
-            return DynamicTheme.getInstance().getDefault().getBackgroundAware();
+            if (!isResolved(ADS_RESOLVED_BACKGROUND_AWARE)) {
+                setResolved(ADS_RESOLVED_BACKGROUND_AWARE,
+                        DynamicTheme.getInstance().getDefault().getBackgroundAware());
+            }
+
+            return getResolved(ADS_RESOLVED_BACKGROUND_AWARE);
         }
 
         return backgroundAware;
@@ -1183,6 +1384,7 @@ public class DynamicAppTheme implements Parcelable {
     public @NonNull DynamicAppTheme setBackgroundAware(
             @Theme.BackgroundAware int backgroundAware) {
         this.backgroundAware = backgroundAware;
+        invalidate();
 
         return this;
     }
@@ -1234,13 +1436,42 @@ public class DynamicAppTheme implements Parcelable {
         return autoGenerateColors(true, true);
     }
 
+    /**
+     * Returns the 64-bit hash of the raw values of this theme.
+     * <p>It can be used to detect the changes without comparing the string equivalents.
+     *
+     * @return The 64-bit hash of the raw values of this theme.
+     */
+    public long getHash() {
+        long hash = DynamicThemeUtils.ADS_HASH_INITIAL;
+        hash = DynamicThemeUtils.hash(hash, themeRes);
+        hash = DynamicThemeUtils.hash(hash, backgroundColor);
+        hash = DynamicThemeUtils.hash(hash, primaryColor);
+        hash = DynamicThemeUtils.hash(hash, primaryColorDark);
+        hash = DynamicThemeUtils.hash(hash, accentColor);
+        hash = DynamicThemeUtils.hash(hash, accentColorDark);
+        hash = DynamicThemeUtils.hash(hash, tintBackgroundColor);
+        hash = DynamicThemeUtils.hash(hash, tintPrimaryColor);
+        hash = DynamicThemeUtils.hash(hash, tintPrimaryColorDark);
+        hash = DynamicThemeUtils.hash(hash, tintAccentColor);
+        hash = DynamicThemeUtils.hash(hash, tintAccentColorDark);
+        hash = DynamicThemeUtils.hash(hash, textPrimaryColor);
+        hash = DynamicThemeUtils.hash(hash, textSecondaryColor);
+        hash = DynamicThemeUtils.hash(hash, textPrimaryColorInverse);
+        hash = DynamicThemeUtils.hash(hash, textSecondaryColorInverse);
+        hash = DynamicThemeUtils.hash(hash, cornerRadius);
+        hash = DynamicThemeUtils.hash(hash, backgroundAware);
+
+        return hash;
+    }
+
     /**
      * Converts this theme into its Json equivalent.
      *
      * @return The Json equivalent of this theme.
      */
     public @NonNull String toJsonString() {
-        return new Gson().toJson(new DynamicAppTheme(this));
+        return DynamicThemeCodec.toJsonString(this);
     }
 
     /**
@@ -1249,9 +1480,7 @@ public class DynamicAppTheme implements Parcelable {
      * @return The converted json string.
      */
     public @NonNull String toDynamicString() {
-        return new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
-                .registerTypeAdapter(DynamicAppTheme.class, new DynamicThemeTypeAdapter<>())
-                .setPrettyPrinting().create().toJson(new DynamicAppTheme(this));
+        return DynamicThemeCodec.toDynamicString(this, true);
     }
 
     @Override
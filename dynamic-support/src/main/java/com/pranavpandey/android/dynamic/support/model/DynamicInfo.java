@@ -86,7 +86,7 @@ public class DynamicInfo {
     /**
      * Icon tint color for the links used by this info.
      */
-    private @ColorInt Integer[] linksColors;
+    private @ColorInt int[] linksColors;
 
     /**
      * Ge the icon used by this info.
@@ -335,7 +335,7 @@ public class DynamicInfo {
      *
      * @return The icon tint color for the links used by this info.
      */
-    public @Nullable @ColorInt Integer[] getLinksColors() {
+    public @Nullable @ColorInt int[] getLinksColors() {
         return linksColors;
     }
 
@@ -346,7 +346,7 @@ public class DynamicInfo {
      *
      * @return The {@link DynamicInfo} object to allow for chaining of calls to set methods.
      */
-    public DynamicInfo setLinksColors(@Nullable @ColorInt Integer[] linksColors) {
+    public DynamicInfo setLinksColors(@Nullable @ColorInt int[] linksColors) {
         this.linksColors = linksColors;
 
         return this;
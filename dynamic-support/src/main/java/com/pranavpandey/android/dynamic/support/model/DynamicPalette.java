@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model;
+
+import android.util.SparseIntArray;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A palette of colors and their shades backed by the primitive arrays.
+ * <p>It keeps an index of the colors so that their position can be found without boxing
+ * or scanning the arrays.
+ */
+public class DynamicPalette {
+
+    /**
+     * Constant for the position if a color is not found in the palette.
+     */
+    public static final int ADS_POSITION_UNKNOWN = -1;
+
+    /**
+     * Colors used by this palette.
+     */
+    private final @ColorInt int[] colors;
+
+    /**
+     * Shades of the colors used by this palette.
+     */
+    private final @ColorInt int[][] shades;
+
+    /**
+     * Index of the colors to their position.
+     */
+    private final SparseIntArray colorsIndex;
+
+    /**
+     * Index of the shades to their position for each color.
+     */
+    private final SparseIntArray[] shadesIndex;
+
+    /**
+     * Index of the shades to the position of their parent color.
+     */
+    private final SparseIntArray parentsIndex;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param colors The colors used by this palette.
+     * @param shades The shades of the colors used by this palette.
+     */
+    public DynamicPalette(@NonNull @ColorInt int[] colors, @Nullable @ColorInt int[][] shades) {
+        this.colors = colors;
+        this.shades = shades;
+        this.colorsIndex = buildIndex(colors);
+        this.parentsIndex = new SparseIntArray();
+
+        if (shades != null) {
+            this.shadesIndex = new SparseIntArray[shades.length];
+
+            for (int i = 0; i < shades.length; i++) {
+                if (shades[i] == null) {
+                    continue;
+                }
+
+                shadesIndex[i] = buildIndex(shades[i]);
+                for (int shade : shades[i]) {
+                    if (parentsIndex.indexOfKey(shade) < 0) {
+                        parentsIndex.put(shade, i);
+                    }
+                }
+            }
+        } else {
+            this.shadesIndex = null;
+        }
+    }
+
+    /**
+     * Build an index of the colors to their first position.
+     *
+     * @param colors The colors to build the index.
+     *
+     * @return The index of the colors to their first position.
+     */
+    private static @NonNull SparseIntArray buildIndex(@NonNull @ColorInt int[] colors) {
+        SparseIntArray index = new SparseIntArray(colors.length);
+        for (int i = 0; i < colors.length; i++) {
+            if (index.indexOfKey(colors[i]) < 0) {
+                index.put(colors[i], i);
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Get the colors used by this palette.
+     *
+     * @return The colors used by this palette.
+     */
+    public @NonNull @ColorInt int[] getColors() {
+        return colors;
+    }
+
+    /**
+     * Get the shades of the colors used by this palette.
+     *
+     * @return The shades of the colors used by this palette.
+     */
+    public @Nullable @ColorInt int[][] getShades() {
+        return shades;
+    }
+
+    /**
+     * Get the shades of a color used by this palette.
+     *
+     * @param position The position of the color.
+     *
+     * @return The shades of the color at the supplied position.
+     */
+    public @Nullable @ColorInt int[] getShades(int position) {
+        if (shades == null || position < 0 || position >= shades.length) {
+            return null;
+        }
+
+        return shades[position];
+    }
+
+    /**
+     * Get the position of a color in this palette.
+     *
+     * @param color The color to get the position.
+     *
+     * @return The position of the color, otherwise {@link #ADS_POSITION_UNKNOWN}.
+     */
+    public int indexOf(@ColorInt int color) {
+        return colorsIndex.get(color, ADS_POSITION_UNKNOWN);
+    }
+
+    /**
+     * Get the position of a shade in the shades of a color.
+     *
+     * @param position The position of the parent color.
+     * @param color The shade to get the position.
+     *
+     * @return The position of the shade, otherwise {@link #ADS_POSITION_UNKNOWN}.
+     */
+    public int indexOfShade(int position, @ColorInt int color) {
+        if (shadesIndex == null || position < 0
+                || position >= shadesIndex.length || shadesIndex[position] == null) {
+            return ADS_POSITION_UNKNOWN;
+        }
+
+        return shadesIndex[position].get(color, ADS_POSITION_UNKNOWN);
+    }
+
+    /**
+     * Get the position of the first color whose shades contain the supplied shade.
+     *
+     * @param color The shade to find the parent color.
+     *
+     * @return The position of the parent color, otherwise {@link #ADS_POSITION_UNKNOWN}.
+     */
+    public int indexOfParent(@ColorInt int color) {
+        return parentsIndex.get(color, ADS_POSITION_UNKNOWN);
+    }
+}
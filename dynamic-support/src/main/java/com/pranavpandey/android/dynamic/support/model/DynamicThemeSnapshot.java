@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
+import com.pranavpandey.android.dynamic.support.theme.Theme;
+
+/**
+ * An immutable snapshot of the resolved theme at a particular generation of the
+ * {@link DynamicTheme}.
+ * <p>Two snapshots can be compared by their hash to check whether the theme has been
+ * changed in between.
+ */
+public final class DynamicThemeSnapshot {
+
+    /**
+     * Generation of the theme when this snapshot was taken.
+     */
+    private final long generation;
+
+    /**
+     * 64-bit hash of all the themes when this snapshot was taken.
+     */
+    private final long hash;
+
+    /**
+     * Resolved colors indexed by the {@link Theme.ColorType}.
+     */
+    private final int[] colors;
+
+    /**
+     * Resolved corner radius in pixels.
+     */
+    private final int cornerRadius;
+
+    /**
+     * Resolved background aware functionality.
+     */
+    private final @Theme.BackgroundAware int backgroundAware;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param generation The generation of the theme.
+     * @param hash The 64-bit hash of all the themes.
+     * @param colors The resolved colors indexed by the color type.
+     * @param cornerRadius The resolved corner radius in pixels.
+     * @param backgroundAware The resolved background aware functionality.
+     */
+    public DynamicThemeSnapshot(long generation, long hash, @NonNull int[] colors,
+            int cornerRadius, @Theme.BackgroundAware int backgroundAware) {
+        this.generation = generation;
+        this.hash = hash;
+        this.colors = colors.clone();
+        this.cornerRadius = cornerRadius;
+        this.backgroundAware = backgroundAware;
+    }
+
+    /**
+     * Get the generation of the theme when this snapshot was taken.
+     * <p>It will always increase whenever the theme is changed.
+     *
+     * @return The generation of the theme when this snapshot was taken.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Get the 64-bit hash of all the themes when this snapshot was taken.
+     *
+     * @return The 64-bit hash of all the themes when this snapshot was taken.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Get the resolved color according to the color type.
+     *
+     * @param colorType The color type to get the color.
+     *
+     * @return The resolved color according to the color type.
+     *
+     * @see Theme.ColorType
+     */
+    public @ColorInt int getColor(@Theme.ColorType int colorType) {
+        if (colorType <= Theme.ColorType.NONE || colorType >= colors.length) {
+            return Theme.ColorType.NONE;
+        }
+
+        return colors[colorType];
+    }
+
+    /**
+     * Get the resolved corner radius in pixels.
+     *
+     * @return The resolved corner radius in pixels.
+     */
+    public int getCornerRadius() {
+        return cornerRadius;
+    }
+
+    /**
+     * Get the resolved background aware functionality.
+     *
+     * @return The resolved background aware functionality.
+     */
+    public @Theme.BackgroundAware int getBackgroundAware() {
+        return backgroundAware;
+    }
+
+    /**
+     * Checks whether the theme has been changed since the supplied snapshot.
+     *
+     * @param snapshot The snapshot to be compared.
+     *
+     * @return {@code true} if the theme has been changed since the supplied snapshot.
+     */
+    public boolean isChanged(@NonNull DynamicThemeSnapshot snapshot) {
+        return hash != snapshot.getHash();
+    }
+}
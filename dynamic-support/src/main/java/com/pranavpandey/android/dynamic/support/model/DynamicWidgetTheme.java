@@ -24,12 +24,9 @@ import androidx.annotation.IntRange;
 import androidx.annotation.NonNull;
 import androidx.annotation.StyleRes;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.annotations.SerializedName;
 import com.pranavpandey.android.dynamic.support.annotation.Exclude;
-import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeTypeAdapter;
-import com.pranavpandey.android.dynamic.support.strategy.ExcludeStrategy;
+import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeCodec;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicThemeUtils;
@@ -91,10 +88,7 @@ public class DynamicWidgetTheme extends DynamicAppTheme {
      * @param theme The dynamic string to initialize the instance.
      */
     public DynamicWidgetTheme(@NonNull String theme) throws Exception {
-        this(new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
-                .registerTypeAdapter(DynamicWidgetTheme.class,
-                        new DynamicThemeTypeAdapter<DynamicWidgetTheme>()).create()
-                .fromJson(DynamicThemeUtils.formatDynamicTheme(theme), DynamicWidgetTheme.class));
+        this(DynamicThemeCodec.fromDynamicWidgetString(theme));
     }
 
     /**
@@ -177,6 +171,7 @@ public class DynamicWidgetTheme extends DynamicAppTheme {
      */
     public @NonNull DynamicWidgetTheme setWidgetId(int widgetId) {
         this.widgetId = widgetId;
+        invalidate();
         
         return this;
     }
@@ -208,6 +203,7 @@ public class DynamicWidgetTheme extends DynamicAppTheme {
      */
     public @NonNull DynamicWidgetTheme setHeader(@Theme.Visibility int header) {
         this.header = header;
+        invalidate();
 
         return this;
     }
@@ -222,6 +218,7 @@ public class DynamicWidgetTheme extends DynamicAppTheme {
     public @NonNull DynamicWidgetTheme setHeaderString(
             @NonNull@Theme.Visibility.ToString String header) {
         this.header = Integer.valueOf(header);
+        invalidate();
 
         return this;
     }
@@ -244,6 +241,7 @@ public class DynamicWidgetTheme extends DynamicAppTheme {
      */
     public @NonNull DynamicWidgetTheme setOpacity(@IntRange(from = 0, to = 255) int opacity) {
         this.opacity = opacity;
+        invalidate();
 
         return this;
     }
@@ -397,17 +395,24 @@ public class DynamicWidgetTheme extends DynamicAppTheme {
         return super.getCornerRadius(resolve);
     }
 
+    @Override
+    public long getHash() {
+        long hash = super.getHash();
+        hash = DynamicThemeUtils.hash(hash, widgetId);
+        hash = DynamicThemeUtils.hash(hash, header);
+        hash = DynamicThemeUtils.hash(hash, opacity);
+
+        return hash;
+    }
+
     @Override
     public @NonNull String toJsonString() {
-        return new Gson().toJson(new DynamicWidgetTheme(this));
+        return DynamicThemeCodec.toJsonString(this);
     }
 
     @Override
     public @NonNull String toDynamicString() {
-        return new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
-                .registerTypeAdapter(DynamicWidgetTheme.class,
-                        new DynamicThemeTypeAdapter<DynamicWidgetTheme>())
-                .setPrettyPrinting().create().toJson(new DynamicWidgetTheme(this));
+        return DynamicThemeCodec.toDynamicString(this, true);
     }
 
     @Override
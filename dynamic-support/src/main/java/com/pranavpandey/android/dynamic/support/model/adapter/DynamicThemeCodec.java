@@ -0,0 +1,540 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model.adapter;
+
+import android.util.Base64;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
+import com.pranavpandey.android.dynamic.support.strategy.ExcludeStrategy;
+import com.pranavpandey.android.dynamic.support.utils.DynamicThemeUtils;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Streaming codec to convert the dynamic theme into its Json equivalent and vice versa.
+ * <p>It reuses the same type adapters for all the conversions instead of creating a new
+ * {@link Gson} instance every time.
+ *
+ * <p>It also provides a compact binary format with a fixed layout which can be used to
+ * persist or transfer the themes without parsing any Json.
+ *
+ * @see DynamicAppTheme
+ * @see DynamicWidgetTheme
+ */
+public final class DynamicThemeCodec {
+
+    /**
+     * Indent used by the pretty json string.
+     */
+    private static final String ADS_INDENT = "  ";
+
+    /**
+     * Type adapter to convert the dynamic app theme.
+     */
+    private static final TypeAdapter<DynamicAppTheme> ADS_ADAPTER_APP_THEME =
+            new DynamicThemeTypeAdapter<>();
+
+    /**
+     * Type adapter to convert the dynamic widget theme.
+     */
+    private static final TypeAdapter<DynamicWidgetTheme> ADS_ADAPTER_WIDGET_THEME =
+            new DynamicThemeTypeAdapter<>();
+
+    /**
+     * Current version of the binary format.
+     */
+    public static final byte ADS_BINARY_VERSION = 1;
+
+    /**
+     * Flag for the widget theme in the binary format.
+     */
+    private static final byte ADS_BINARY_FLAG_WIDGET = 1;
+
+    /**
+     * Size of the header in the binary format which contains the version and flags.
+     */
+    private static final int ADS_BINARY_HEADER_SIZE = 2;
+
+    /**
+     * Size of the app theme values in the binary format.
+     */
+    private static final int ADS_BINARY_APP_THEME_SIZE = 17 * Integer.SIZE / Byte.SIZE;
+
+    /**
+     * Size of the widget theme values in the binary format.
+     */
+    private static final int ADS_BINARY_WIDGET_THEME_SIZE = 3 * Integer.SIZE / Byte.SIZE;
+
+    /**
+     * Shared gson instance with the dynamic theme adapters.
+     */
+    private static Gson sGson;
+
+    /**
+     * Making default constructor private so that it cannot be initialized.
+     */
+    private DynamicThemeCodec() { }
+
+    /**
+     * Returns the shared gson instance with the dynamic theme adapters and
+     * {@link ExcludeStrategy} already registered.
+     *
+     * @return The shared gson instance to convert the dynamic themes.
+     */
+    public static synchronized @NonNull Gson getGson() {
+        if (sGson == null) {
+            sGson = new GsonBuilder().setExclusionStrategies(new ExcludeStrategy())
+                    .registerTypeAdapter(DynamicAppTheme.class, ADS_ADAPTER_APP_THEME)
+                    .registerTypeAdapter(DynamicWidgetTheme.class, ADS_ADAPTER_WIDGET_THEME)
+                    .create();
+        }
+
+        return sGson;
+    }
+
+    /**
+     * Returns the dynamic app theme from the dynamic string.
+     *
+     * @param theme The dynamic string to be converted.
+     *
+     * @return The dynamic app theme from the dynamic string.
+     */
+    public static @Nullable DynamicAppTheme fromDynamicString(@NonNull String theme) {
+        return read(ADS_ADAPTER_APP_THEME, DynamicThemeUtils.formatDynamicTheme(theme));
+    }
+
+    /**
+     * Returns the dynamic widget theme from the dynamic string.
+     *
+     * @param theme The dynamic string to be converted.
+     *
+     * @return The dynamic widget theme from the dynamic string.
+     */
+    public static @Nullable DynamicWidgetTheme fromDynamicWidgetString(@NonNull String theme) {
+        return read(ADS_ADAPTER_WIDGET_THEME, DynamicThemeUtils.formatDynamicTheme(theme));
+    }
+
+    /**
+     * Converts the dynamic theme into a dynamic string.
+     * <p>The header and opacity will also be added for the {@link DynamicWidgetTheme}.
+     *
+     * @param theme The dynamic theme to be converted.
+     * @param pretty {@code true} to generate a pretty json string.
+     *
+     * @return The dynamic string equivalent of the theme.
+     */
+    public static @NonNull String toDynamicString(
+            @NonNull DynamicAppTheme theme, boolean pretty) {
+        StringWriter string = new StringWriter();
+
+        try {
+            JsonWriter writer = new JsonWriter(string);
+            if (pretty) {
+                writer.setIndent(ADS_INDENT);
+            }
+
+            ADS_ADAPTER_APP_THEME.write(writer, theme);
+            writer.flush();
+        } catch (IOException ignored) {
+        }
+
+        return string.toString();
+    }
+
+    /**
+     * Returns the dynamic app theme from the Json string containing the raw values.
+     * <p>It will return a {@link DynamicWidgetTheme} if the Json string contains any of the
+     * widget id, header or opacity.
+     *
+     * @param theme The Json string to be converted.
+     *
+     * @return The dynamic app theme from the Json string.
+     *
+     * @see #toJsonString(DynamicAppTheme)
+     */
+    public static @Nullable DynamicAppTheme fromJsonString(@Nullable String theme) {
+        if (theme == null) {
+            return null;
+        }
+
+        DynamicAppTheme dynamicAppTheme = new DynamicAppTheme();
+        Integer widgetId = null;
+        Integer header = null;
+        Integer opacity = null;
+
+        try {
+            JsonReader reader = new JsonReader(new StringReader(theme));
+            reader.setLenient(true);
+
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                return null;
+            }
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    continue;
+                }
+
+                switch (name) {
+                    default:
+                        reader.skipValue();
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_WIDGET_ID:
+                        widgetId = reader.nextInt();
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_HEADER:
+                        header = reader.nextInt();
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_OPACITY:
+                        opacity = reader.nextInt();
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_THEME_RES:
+                        dynamicAppTheme.setThemeRes(reader.nextInt());
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_BACKGROUND_COLOR:
+                        dynamicAppTheme.setBackgroundColor(reader.nextInt(), false);
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_PRIMARY_COLOR:
+                        dynamicAppTheme.setPrimaryColor(reader.nextInt(), false);
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_PRIMARY_COLOR_DARK:
+                        dynamicAppTheme.setPrimaryColorDark(reader.nextInt(), false);
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_ACCENT_COLOR:
+                        dynamicAppTheme.setAccentColor(reader.nextInt(), false);
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_ACCENT_COLOR_DARK:
+                        dynamicAppTheme.setAccentColorDark(reader.nextInt(), false);
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_TINT_BACKGROUND_COLOR:
+                        dynamicAppTheme.setTintBackgroundColor(reader.nextInt());
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_TINT_PRIMARY_COLOR:
+                        dynamicAppTheme.setTintPrimaryColor(reader.nextInt());
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_TINT_PRIMARY_COLOR_DARK:
+                        dynamicAppTheme.setTintPrimaryColorDark(reader.nextInt());
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_TINT_ACCENT_COLOR:
+                        dynamicAppTheme.setTintAccentColor(reader.nextInt());
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_TINT_ACCENT_COLOR_DARK:
+                        dynamicAppTheme.setTintAccentColorDark(reader.nextInt());
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_TEXT_PRIMARY_COLOR:
+                        dynamicAppTheme.setTextPrimaryColor(reader.nextInt(), false);
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_TEXT_SECONDARY_COLOR:
+                        dynamicAppTheme.setTextSecondaryColor(reader.nextInt(), false);
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_TEXT_PRIMARY_COLOR_INVERSE:
+                        dynamicAppTheme.setTextPrimaryColorInverse(reader.nextInt());
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_TEXT_SECONDARY_COLOR_INVERSE:
+                        dynamicAppTheme.setTextSecondaryColorInverse(reader.nextInt());
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_CORNER_RADIUS:
+                        dynamicAppTheme.setCornerRadius(reader.nextInt());
+                        break;
+                    case DynamicThemeUtils.ADS_NAME_BACKGROUND_AWARE:
+                        dynamicAppTheme.setBackgroundAware(reader.nextInt());
+                        break;
+                }
+            }
+            reader.endObject();
+        } catch (Exception ignored) {
+            return null;
+        }
+
+        if (widgetId == null && header == null && opacity == null) {
+            return dynamicAppTheme;
+        }
+
+        DynamicWidgetTheme dynamicWidgetTheme = new DynamicWidgetTheme(dynamicAppTheme);
+        if (widgetId != null) {
+            dynamicWidgetTheme.setWidgetId(widgetId);
+        }
+        if (header != null) {
+            dynamicWidgetTheme.setHeader(header);
+        }
+        if (opacity != null) {
+            dynamicWidgetTheme.setOpacity(opacity);
+        }
+
+        return dynamicWidgetTheme;
+    }
+
+    /**
+     * Converts the dynamic theme into a Json string containing the raw values.
+     * <p>The widget id, header and opacity will also be added for the
+     * {@link DynamicWidgetTheme}.
+     *
+     * @param theme The dynamic theme to be converted.
+     *
+     * @return The Json string equivalent of the theme.
+     *
+     * @see #fromJsonString(String)
+     */
+    public static @NonNull String toJsonString(@NonNull DynamicAppTheme theme) {
+        StringWriter string = new StringWriter();
+
+        try {
+            JsonWriter writer = new JsonWriter(string);
+            writer.beginObject();
+
+            if (theme instanceof DynamicWidgetTheme) {
+                writer.name(DynamicThemeUtils.ADS_NAME_WIDGET_ID)
+                        .value(((DynamicWidgetTheme) theme).getWidgetId());
+                writer.name(DynamicThemeUtils.ADS_NAME_HEADER)
+                        .value(((DynamicWidgetTheme) theme).getHeader());
+                writer.name(DynamicThemeUtils.ADS_NAME_OPACITY)
+                        .value(((DynamicWidgetTheme) theme).getOpacity());
+            }
+
+            writer.name(DynamicThemeUtils.ADS_NAME_THEME_RES)
+                    .value(theme.getThemeRes());
+            writer.name(DynamicThemeUtils.ADS_NAME_BACKGROUND_COLOR)
+                    .value(theme.getBackgroundColor(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_PRIMARY_COLOR)
+                    .value(theme.getPrimaryColor(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_PRIMARY_COLOR_DARK)
+                    .value(theme.getPrimaryColorDark(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_ACCENT_COLOR)
+                    .value(theme.getAccentColor(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_ACCENT_COLOR_DARK)
+                    .value(theme.getAccentColorDark(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_TINT_BACKGROUND_COLOR)
+                    .value(theme.getTintBackgroundColor(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_TINT_PRIMARY_COLOR)
+                    .value(theme.getTintPrimaryColor(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_TINT_PRIMARY_COLOR_DARK)
+                    .value(theme.getTintPrimaryColorDark(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_TINT_ACCENT_COLOR)
+                    .value(theme.getTintAccentColor(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_TINT_ACCENT_COLOR_DARK)
+                    .value(theme.getTintAccentColorDark(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_TEXT_PRIMARY_COLOR)
+                    .value(theme.getTextPrimaryColor(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_TEXT_SECONDARY_COLOR)
+                    .value(theme.getTextSecondaryColor(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_TEXT_PRIMARY_COLOR_INVERSE)
+                    .value(theme.getTextPrimaryColorInverse(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_TEXT_SECONDARY_COLOR_INVERSE)
+                    .value(theme.getTextSecondaryColorInverse(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_CORNER_RADIUS)
+                    .value(theme.getCornerRadius(false));
+            writer.name(DynamicThemeUtils.ADS_NAME_BACKGROUND_AWARE)
+                    .value(theme.getBackgroundAware(false));
+
+            writer.endObject();
+            writer.flush();
+        } catch (IOException ignored) {
+        }
+
+        return string.toString();
+    }
+
+    /**
+     * Converts the dynamic theme into its binary equivalent.
+     * <p>The widget id, header and opacity will also be added for the
+     * {@link DynamicWidgetTheme}.
+     *
+     * @param theme The dynamic theme to be converted.
+     *
+     * @return The binary equivalent of the theme.
+     *
+     * @see #fromByteArray(byte[])
+     */
+    public static @NonNull byte[] toByteArray(@NonNull DynamicAppTheme theme) {
+        boolean widget = theme instanceof DynamicWidgetTheme;
+        ByteBuffer buffer = ByteBuffer.allocate(ADS_BINARY_HEADER_SIZE
+                + ADS_BINARY_APP_THEME_SIZE + (widget ? ADS_BINARY_WIDGET_THEME_SIZE : 0));
+
+        buffer.put(ADS_BINARY_VERSION);
+        buffer.put(widget ? ADS_BINARY_FLAG_WIDGET : 0);
+        buffer.putInt(theme.getThemeRes());
+        buffer.putInt(theme.getBackgroundColor(false));
+        buffer.putInt(theme.getPrimaryColor(false));
+        buffer.putInt(theme.getPrimaryColorDark(false));
+        buffer.putInt(theme.getAccentColor(false));
+        buffer.putInt(theme.getAccentColorDark(false));
+        buffer.putInt(theme.getTintBackgroundColor(false));
+        buffer.putInt(theme.getTintPrimaryColor(false));
+        buffer.putInt(theme.getTintPrimaryColorDark(false));
+        buffer.putInt(theme.getTintAccentColor(false));
+        buffer.putInt(theme.getTintAccentColorDark(false));
+        buffer.putInt(theme.getTextPrimaryColor(false));
+        buffer.putInt(theme.getTextSecondaryColor(false));
+        buffer.putInt(theme.getTextPrimaryColorInverse(false));
+        buffer.putInt(theme.getTextSecondaryColorInverse(false));
+        buffer.putInt(theme.getCornerRadius(false));
+        buffer.putInt(theme.getBackgroundAware(false));
+
+        if (widget) {
+            buffer.putInt(((DynamicWidgetTheme) theme).getWidgetId());
+            buffer.putInt(((DynamicWidgetTheme) theme).getHeader());
+            buffer.putInt(((DynamicWidgetTheme) theme).getOpacity());
+        }
+
+        return buffer.array();
+    }
+
+    /**
+     * Returns the dynamic theme from its binary equivalent.
+     *
+     * @param bytes The binary equivalent of the theme.
+     *
+     * @return The dynamic theme from its binary equivalent.
+     *         <p>It will be an instance of {@link DynamicWidgetTheme} if the widget theme
+     *         was converted, {@code null} if the bytes are not valid.
+     *
+     * @see #toByteArray(DynamicAppTheme)
+     */
+    public static @Nullable DynamicAppTheme fromByteArray(@Nullable byte[] bytes) {
+        if (bytes == null || bytes.length < ADS_BINARY_HEADER_SIZE) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != ADS_BINARY_VERSION) {
+                return null;
+            }
+
+            boolean widget = (buffer.get() & ADS_BINARY_FLAG_WIDGET) != 0;
+            DynamicAppTheme theme = widget ? new DynamicWidgetTheme() : new DynamicAppTheme();
+
+            theme.setThemeRes(buffer.getInt());
+            theme.setBackgroundColor(buffer.getInt(), false);
+            theme.setPrimaryColor(buffer.getInt(), false);
+            theme.setPrimaryColorDark(buffer.getInt(), false);
+            theme.setAccentColor(buffer.getInt(), false);
+            theme.setAccentColorDark(buffer.getInt(), false);
+            theme.setTintBackgroundColor(buffer.getInt());
+            theme.setTintPrimaryColor(buffer.getInt());
+            theme.setTintPrimaryColorDark(buffer.getInt());
+            theme.setTintAccentColor(buffer.getInt());
+            theme.setTintAccentColorDark(buffer.getInt());
+            theme.setTextPrimaryColor(buffer.getInt(), false);
+            theme.setTextSecondaryColor(buffer.getInt(), false);
+            theme.setTextPrimaryColorInverse(buffer.getInt());
+            theme.setTextSecondaryColorInverse(buffer.getInt());
+            theme.setCornerRadius(buffer.getInt());
+            theme.setBackgroundAware(buffer.getInt());
+
+            if (widget) {
+                ((DynamicWidgetTheme) theme).setWidgetId(buffer.getInt())
+                        .setHeader(buffer.getInt())
+                        .setOpacity(buffer.getInt());
+            }
+
+            return theme;
+        } catch (BufferUnderflowException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts the dynamic theme into its binary equivalent encoded as a Base64 string.
+     *
+     * @param theme The dynamic theme to be converted.
+     *
+     * @return The Base64 string of the binary equivalent of the theme.
+     *
+     * @see #toByteArray(DynamicAppTheme)
+     */
+    public static @NonNull String toBase64(@NonNull DynamicAppTheme theme) {
+        return Base64.encodeToString(toByteArray(theme), Base64.NO_WRAP);
+    }
+
+    /**
+     * Checks whether the supplied string is a Json string or a Base64 string of the
+     * binary equivalent.
+     *
+     * @param theme The string to be checked.
+     *
+     * @return {@code true} if the supplied string is a Json string.
+     */
+    public static boolean isJsonString(@Nullable String theme) {
+        return theme != null && theme.trim().startsWith("{");
+    }
+
+    /**
+     * Returns the dynamic theme from the string which can be either a Base64 string of its
+     * binary equivalent or the Json string containing the raw values.
+     *
+     * @param theme The string to be converted.
+     *
+     * @return The dynamic theme from the supplied string.
+     *
+     * @see #toBase64(DynamicAppTheme)
+     * @see #toJsonString(DynamicAppTheme)
+     */
+    public static @Nullable DynamicAppTheme fromString(@Nullable String theme) {
+        if (theme == null) {
+            return null;
+        }
+
+        if (isJsonString(theme)) {
+            return fromJsonString(theme);
+        }
+
+        try {
+            return fromByteArray(Base64.decode(theme, Base64.NO_WRAP));
+        } catch (IllegalArgumentException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Read the dynamic theme from the Json string by using the supplied type adapter.
+     *
+     * @param adapter The type adapter to read the theme.
+     * @param theme The Json string to be read.
+     * @param <T> The type of the dynamic theme.
+     *
+     * @return The dynamic theme read from the Json string.
+     */
+    private static @Nullable <T extends DynamicAppTheme> T read(
+            @NonNull TypeAdapter<T> adapter, @NonNull String theme) {
+        try {
+            JsonReader reader = new JsonReader(new StringReader(theme));
+            reader.setLenient(true);
+
+            return adapter.read(reader);
+        } catch (IOException ignored) {
+            return null;
+        }
+    }
+}
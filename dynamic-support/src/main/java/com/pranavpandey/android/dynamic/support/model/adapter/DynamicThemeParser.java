@@ -0,0 +1,397 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.model.adapter;
+
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
+import com.pranavpandey.android.dynamic.support.utils.DynamicThemeUtils;
+
+import java.text.ParseException;
+
+/**
+ * Single pass parser to decode the dynamic theme string directly into a theme.
+ * <p>It ignores the white spaces and extra characters while parsing so that the string does
+ * not need to be formatted before and reports the position of the first error by using
+ * {@link ParseException#getErrorOffset()}.
+ *
+ * @see DynamicThemeUtils#formatDynamicTheme(String)
+ */
+public final class DynamicThemeParser {
+
+    /**
+     * Constant for the end of the string.
+     */
+    private static final int ADS_END = -1;
+
+    /**
+     * Keys supported by this parser.
+     * <p>Position of a key is used as its bit in the found keys.
+     */
+    private static final String[] ADS_KEYS = new String[] {
+            DynamicThemeUtils.ADS_NAME_BACKGROUND_COLOR,
+            DynamicThemeUtils.ADS_NAME_TINT_BACKGROUND_COLOR,
+            DynamicThemeUtils.ADS_NAME_PRIMARY_COLOR,
+            DynamicThemeUtils.ADS_NAME_TINT_PRIMARY_COLOR,
+            DynamicThemeUtils.ADS_NAME_PRIMARY_COLOR_DARK,
+            DynamicThemeUtils.ADS_NAME_TINT_PRIMARY_COLOR_DARK,
+            DynamicThemeUtils.ADS_NAME_ACCENT_COLOR,
+            DynamicThemeUtils.ADS_NAME_TINT_ACCENT_COLOR,
+            DynamicThemeUtils.ADS_NAME_ACCENT_COLOR_DARK,
+            DynamicThemeUtils.ADS_NAME_TINT_ACCENT_COLOR_DARK,
+            DynamicThemeUtils.ADS_NAME_TEXT_PRIMARY_COLOR,
+            DynamicThemeUtils.ADS_NAME_TEXT_PRIMARY_COLOR_INVERSE,
+            DynamicThemeUtils.ADS_NAME_TEXT_SECONDARY_COLOR,
+            DynamicThemeUtils.ADS_NAME_TEXT_SECONDARY_COLOR_INVERSE,
+            DynamicThemeUtils.ADS_NAME_CORNER_RADIUS,
+            DynamicThemeUtils.ADS_NAME_BACKGROUND_AWARE,
+            DynamicThemeUtils.ADS_NAME_HEADER,
+            DynamicThemeUtils.ADS_NAME_OPACITY
+    };
+
+    /**
+     * Keys required to parse the dynamic app theme.
+     */
+    private static final int ADS_KEYS_APP_THEME = (1 << 16) - 1;
+
+    /**
+     * Keys required to parse the dynamic widget theme.
+     */
+    private static final int ADS_KEYS_WIDGET_THEME = ADS_KEYS_APP_THEME | 1 << 16;
+
+    /**
+     * The dynamic theme string to be parsed.
+     */
+    private final String mString;
+
+    /**
+     * Builder to read the names and values.
+     */
+    private final StringBuilder mBuilder;
+
+    /**
+     * Current position of this parser in the string.
+     */
+    private int mPosition;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param string The dynamic theme string to be parsed.
+     */
+    private DynamicThemeParser(@NonNull String string) {
+        this.mString = string;
+        this.mBuilder = new StringBuilder();
+    }
+
+    /**
+     * Decode the dynamic app theme from the dynamic theme string.
+     *
+     * @param theme The dynamic theme string to be decoded.
+     *
+     * @return The decoded dynamic app theme.
+     *
+     * @throws ParseException If the string is not a valid dynamic app theme.
+     */
+    public static @NonNull DynamicAppTheme parseAppTheme(@NonNull String theme)
+            throws ParseException {
+        DynamicAppTheme dynamicAppTheme = new DynamicAppTheme();
+        new DynamicThemeParser(theme).parse(dynamicAppTheme, ADS_KEYS_APP_THEME);
+
+        return dynamicAppTheme;
+    }
+
+    /**
+     * Decode the dynamic widget theme from the dynamic theme string.
+     *
+     * @param theme The dynamic theme string to be decoded.
+     *
+     * @return The decoded dynamic widget theme.
+     *
+     * @throws ParseException If the string is not a valid dynamic widget theme.
+     */
+    public static @NonNull DynamicWidgetTheme parseWidgetTheme(@NonNull String theme)
+            throws ParseException {
+        DynamicWidgetTheme dynamicWidgetTheme = new DynamicWidgetTheme();
+        new DynamicThemeParser(theme).parse(dynamicWidgetTheme, ADS_KEYS_WIDGET_THEME);
+
+        return dynamicWidgetTheme;
+    }
+
+    /**
+     * Checks whether the character should be ignored while parsing.
+     *
+     * @param c The character to be checked.
+     *
+     * @return {@code true} if the character should be ignored while parsing.
+     */
+    public static boolean isIgnorable(char c) {
+        return c <= ' ' || c == '+';
+    }
+
+    /**
+     * Parse the string and set the values into the supplied theme.
+     *
+     * @param theme The theme to set the parsed values.
+     * @param required The keys required to be present in the string.
+     *
+     * @throws ParseException If the string is not valid or a required key is missing.
+     */
+    private void parse(@NonNull DynamicAppTheme theme, int required) throws ParseException {
+        int found = 0;
+
+        expect('{');
+        if (peek() == '}') {
+            mPosition++;
+        } else {
+            do {
+                String name = nextString();
+                expect(':');
+                int position = mPosition;
+                found |= set(theme, name, nextValue(), position);
+            } while (consume(','));
+
+            expect('}');
+        }
+
+        if (peek() != ADS_END) {
+            throw new ParseException("Unexpected character after the theme", mPosition);
+        }
+
+        for (int i = 0; i < ADS_KEYS.length; i++) {
+            if ((required & 1 << i) != 0 && (found & 1 << i) == 0) {
+                throw new ParseException("Missing value for " + ADS_KEYS[i], mPosition);
+            }
+        }
+    }
+
+    /**
+     * Set the value into the theme according to the supplied name.
+     *
+     * @param theme The theme to set the value.
+     * @param name The name of the value.
+     * @param value The value to be set.
+     * @param position The position of the value in the string.
+     *
+     * @return The bit of the key which has been set, {@code 0} if the name is not supported.
+     *
+     * @throws ParseException If the value is not valid for the supplied name.
+     */
+    private int set(@NonNull DynamicAppTheme theme, @NonNull String name,
+            @NonNull String value, int position) throws ParseException {
+        try {
+            switch (name) {
+                default:
+                    return 0;
+                case DynamicThemeUtils.ADS_NAME_BACKGROUND_COLOR:
+                    theme.setBackgroundColor(
+                            DynamicThemeUtils.getValueFromColor(value), false);
+                    return 1;
+                case DynamicThemeUtils.ADS_NAME_TINT_BACKGROUND_COLOR:
+                    theme.setTintBackgroundColor(DynamicThemeUtils.getValueFromColor(value));
+                    return 1 << 1;
+                case DynamicThemeUtils.ADS_NAME_PRIMARY_COLOR:
+                    theme.setPrimaryColor(DynamicThemeUtils.getValueFromColor(value), false);
+                    return 1 << 2;
+                case DynamicThemeUtils.ADS_NAME_TINT_PRIMARY_COLOR:
+                    theme.setTintPrimaryColor(DynamicThemeUtils.getValueFromColor(value));
+                    return 1 << 3;
+                case DynamicThemeUtils.ADS_NAME_PRIMARY_COLOR_DARK:
+                    theme.setPrimaryColorDark(
+                            DynamicThemeUtils.getValueFromColor(value), false);
+                    return 1 << 4;
+                case DynamicThemeUtils.ADS_NAME_TINT_PRIMARY_COLOR_DARK:
+                    theme.setTintPrimaryColorDark(DynamicThemeUtils.getValueFromColor(value));
+                    return 1 << 5;
+                case DynamicThemeUtils.ADS_NAME_ACCENT_COLOR:
+                    theme.setAccentColor(DynamicThemeUtils.getValueFromColor(value), false);
+                    return 1 << 6;
+                case DynamicThemeUtils.ADS_NAME_TINT_ACCENT_COLOR:
+                    theme.setTintAccentColor(DynamicThemeUtils.getValueFromColor(value));
+                    return 1 << 7;
+                case DynamicThemeUtils.ADS_NAME_ACCENT_COLOR_DARK:
+                    theme.setAccentColorDark(
+                            DynamicThemeUtils.getValueFromColor(value), false);
+                    return 1 << 8;
+                case DynamicThemeUtils.ADS_NAME_TINT_ACCENT_COLOR_DARK:
+                    theme.setTintAccentColorDark(DynamicThemeUtils.getValueFromColor(value));
+                    return 1 << 9;
+                case DynamicThemeUtils.ADS_NAME_TEXT_PRIMARY_COLOR:
+                    theme.setTextPrimaryColor(
+                            DynamicThemeUtils.getValueFromColor(value), false);
+                    return 1 << 10;
+                case DynamicThemeUtils.ADS_NAME_TEXT_PRIMARY_COLOR_INVERSE:
+                    theme.setTextPrimaryColorInverse(
+                            DynamicThemeUtils.getValueFromColor(value));
+                    return 1 << 11;
+                case DynamicThemeUtils.ADS_NAME_TEXT_SECONDARY_COLOR:
+                    theme.setTextSecondaryColor(
+                            DynamicThemeUtils.getValueFromColor(value), false);
+                    return 1 << 12;
+                case DynamicThemeUtils.ADS_NAME_TEXT_SECONDARY_COLOR_INVERSE:
+                    theme.setTextSecondaryColorInverse(
+                            DynamicThemeUtils.getValueFromColor(value));
+                    return 1 << 13;
+                case DynamicThemeUtils.ADS_NAME_CORNER_RADIUS:
+                    theme.setCornerRadius(DynamicThemeUtils.getValueFromCornerRadius(value));
+                    return 1 << 14;
+                case DynamicThemeUtils.ADS_NAME_BACKGROUND_AWARE:
+                    theme.setBackgroundAware(
+                            DynamicThemeUtils.getValueFromBackgroundAware(value));
+                    return 1 << 15;
+                case DynamicThemeUtils.ADS_NAME_HEADER:
+                    if (theme instanceof DynamicWidgetTheme) {
+                        ((DynamicWidgetTheme) theme).setHeader(
+                                DynamicThemeUtils.getValueFromVisibility(value));
+                    }
+                    return 1 << 16;
+                case DynamicThemeUtils.ADS_NAME_OPACITY:
+                    if (theme instanceof DynamicWidgetTheme) {
+                        ((DynamicWidgetTheme) theme).setOpacity(Integer.parseInt(value));
+                    }
+                    return 1 << 17;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ParseException("Invalid value for " + name, position);
+        }
+    }
+
+    /**
+     * Skip the ignorable characters and returns the next character without consuming it.
+     *
+     * @return The next character or {@link #ADS_END} if there is no character left.
+     */
+    private int peek() {
+        while (mPosition < mString.length() && isIgnorable(mString.charAt(mPosition))) {
+            mPosition++;
+        }
+
+        return mPosition < mString.length() ? mString.charAt(mPosition) : ADS_END;
+    }
+
+    /**
+     * Consume the next character if it is same as the supplied character.
+     *
+     * @param c The character to be consumed.
+     *
+     * @return {@code true} if the character has been consumed.
+     */
+    private boolean consume(char c) {
+        if (peek() == c) {
+            mPosition++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Consume the next character which must be same as the supplied character.
+     *
+     * @param c The character to be consumed.
+     *
+     * @throws ParseException If the next character is not same as the supplied character.
+     */
+    private void expect(char c) throws ParseException {
+        if (!consume(c)) {
+            throw new ParseException("Expected '" + c + "'", mPosition);
+        }
+    }
+
+    /**
+     * Read the next quoted string.
+     *
+     * @return The next quoted string without quotes.
+     *
+     * @throws ParseException If the next value is not a valid quoted string.
+     */
+    private @NonNull String nextString() throws ParseException {
+        expect('"');
+        mBuilder.setLength(0);
+
+        while (mPosition < mString.length()) {
+            char c = mString.charAt(mPosition++);
+
+            if (c == '"') {
+                return mBuilder.toString();
+            } else if (c == '\\') {
+                if (mPosition >= mString.length()) {
+                    break;
+                }
+
+                c = mString.charAt(mPosition++);
+                if (c == 'u') {
+                    if (mPosition + 4 > mString.length()) {
+                        throw new ParseException("Invalid escape sequence", mPosition - 2);
+                    }
+
+                    try {
+                        c = (char) Integer.parseInt(
+                                mString.substring(mPosition, mPosition + 4), 16);
+                    } catch (NumberFormatException e) {
+                        throw new ParseException("Invalid escape sequence", mPosition - 2);
+                    }
+
+                    mPosition += 4;
+                }
+
+                mBuilder.append(c);
+            } else if (!isIgnorable(c)) {
+                mBuilder.append(c);
+            }
+        }
+
+        throw new ParseException("Unterminated string", mPosition);
+    }
+
+    /**
+     * Read the next value which can be a quoted string or a literal.
+     *
+     * @return The next value.
+     *
+     * @throws ParseException If the next value is not valid.
+     */
+    private @NonNull String nextValue() throws ParseException {
+        if (peek() == '"') {
+            return nextString();
+        }
+
+        int start = mPosition;
+        mBuilder.setLength(0);
+
+        while (mPosition < mString.length()) {
+            char c = mString.charAt(mPosition);
+
+            if (c == ',' || c == '}') {
+                break;
+            } else if (c == '"' || c == '{' || c == ':') {
+                throw new ParseException("Unexpected character", mPosition);
+            } else if (!isIgnorable(c)) {
+                mBuilder.append(c);
+            }
+
+            mPosition++;
+        }
+
+        if (mBuilder.length() == 0) {
+            throw new ParseException("Missing value", start);
+        }
+
+        return mBuilder.toString();
+    }
+}
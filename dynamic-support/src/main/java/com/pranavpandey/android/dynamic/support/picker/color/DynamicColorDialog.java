@@ -72,12 +72,12 @@ public class DynamicColorDialog extends DynamicDialogFragment {
     /**
      * Color entries used by the picker.
      */
-    private Integer[] mColors;
+    private int[] mColors;
 
     /**
      * Shade entries used by the picker.
      */
-    private Integer[][] mShades;
+    private int[][] mShades;
 
     /**
      * The previous color.
@@ -243,7 +243,7 @@ public class DynamicColorDialog extends DynamicDialogFragment {
      *
      * @return The color entries used by the picker.
      */
-    public Integer[] getColors() {
+    public int[] getColors() {
         return mColors;
     }
 
@@ -252,7 +252,7 @@ public class DynamicColorDialog extends DynamicDialogFragment {
      *
      * @return The shade entries used by the picker.
      */
-    public Integer[][] getShades() {
+    public int[][] getShades() {
         return mShades;
     }
 
@@ -264,8 +264,8 @@ public class DynamicColorDialog extends DynamicDialogFragment {
      *
      * @return The {@link DynamicColorDialog} object to allow for chaining of calls to set methods.
      */
-    public DynamicColorDialog setColors(@NonNull @ColorInt Integer[] colors,
-            @Nullable @ColorInt Integer[][] shades) {
+    public DynamicColorDialog setColors(@NonNull @ColorInt int[] colors,
+            @Nullable @ColorInt int[][] shades) {
         this.mColors = colors;
         this.mShades = shades;
 
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.picker.color;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Rect;
+import android.util.AttributeSet;
+import android.view.View;
+
+import androidx.annotation.AttrRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.recyclerview.widget.SimpleItemAnimator;
+
+import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.adapter.DynamicPaletteAdapter;
+import com.pranavpandey.android.dynamic.support.widget.DynamicRecyclerView;
+
+/**
+ * A DynamicRecyclerView to display the colors in a grid which fits as many columns as
+ * possible according to the column width.
+ * <p>It should be used with a {@link DynamicPaletteAdapter} and multiple palettes can share a
+ * {@link RecyclerView.RecycledViewPool} to reuse the color views.
+ */
+public class DynamicColorPaletteView extends DynamicRecyclerView {
+
+    /**
+     * Minimum width of each column.
+     */
+    private int mColumnWidth;
+
+    /**
+     * Horizontal spacing between the columns.
+     */
+    private int mHorizontalSpacing;
+
+    /**
+     * Vertical spacing between the rows.
+     */
+    private int mVerticalSpacing;
+
+    /**
+     * Grid layout manager used by this view.
+     */
+    private GridLayoutManager mGridLayoutManager;
+
+    public DynamicColorPaletteView(@NonNull Context context) {
+        this(context, null);
+    }
+
+    public DynamicColorPaletteView(@NonNull Context context, @Nullable AttributeSet attrs) {
+        super(context, attrs);
+
+        loadPaletteAttributes(attrs);
+    }
+
+    public DynamicColorPaletteView(@NonNull Context context,
+            @Nullable AttributeSet attrs, @AttrRes int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+
+        loadPaletteAttributes(attrs);
+    }
+
+    /**
+     * Load values from the supplied attribute set and initialize the grid.
+     *
+     * @param attrs The supplied attribute set to load the values.
+     */
+    private void loadPaletteAttributes(@Nullable AttributeSet attrs) {
+        TypedArray a = getContext().obtainStyledAttributes(
+                attrs, R.styleable.DynamicColorPaletteView);
+
+        try {
+            mColumnWidth = a.getDimensionPixelSize(
+                    R.styleable.DynamicColorPaletteView_android_columnWidth, 0);
+            mHorizontalSpacing = a.getDimensionPixelSize(
+                    R.styleable.DynamicColorPaletteView_android_horizontalSpacing, 0);
+            mVerticalSpacing = a.getDimensionPixelSize(
+                    R.styleable.DynamicColorPaletteView_android_verticalSpacing, 0);
+        } finally {
+            a.recycle();
+        }
+
+        mGridLayoutManager = new GridLayoutManager(getContext(), 1);
+        setLayoutManager(mGridLayoutManager);
+        setNestedScrollingEnabled(false);
+        addItemDecoration(new SpacingItemDecoration());
+
+        if (getItemAnimator() instanceof SimpleItemAnimator) {
+            ((SimpleItemAnimator) getItemAnimator()).setSupportsChangeAnimations(false);
+        }
+    }
+
+    @Override
+    protected void onMeasure(int widthSpec, int heightSpec) {
+        int width = MeasureSpec.getSize(widthSpec) - getPaddingLeft() - getPaddingRight();
+        if (mColumnWidth > 0 && width > 0) {
+            int spanCount = Math.max(1, (width + mHorizontalSpacing)
+                    / (mColumnWidth + mHorizontalSpacing));
+
+            if (mGridLayoutManager.getSpanCount() != spanCount) {
+                mGridLayoutManager.setSpanCount(spanCount);
+                invalidateItemDecorations();
+            }
+        }
+
+        super.onMeasure(widthSpec, heightSpec);
+    }
+
+    /**
+     * Get the minimum width of each column.
+     *
+     * @return The minimum width of each column.
+     */
+    public int getColumnWidth() {
+        return mColumnWidth;
+    }
+
+    /**
+     * Set the minimum width of each column.
+     *
+     * @param columnWidth The column width to be set.
+     */
+    public void setColumnWidth(int columnWidth) {
+        this.mColumnWidth = columnWidth;
+
+        requestLayout();
+    }
+
+    /**
+     * Item decoration to add spacing between the columns and rows of the grid.
+     */
+    private class SpacingItemDecoration extends RecyclerView.ItemDecoration {
+
+        @Override
+        public void getItemOffsets(@NonNull Rect outRect, @NonNull View view,
+                @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
+            int position = parent.getChildAdapterPosition(view);
+            if (position == RecyclerView.NO_POSITION) {
+                return;
+            }
+
+            int spanCount = mGridLayoutManager.getSpanCount();
+            int column = position % spanCount;
+
+            outRect.left = column * mHorizontalSpacing / spanCount;
+            outRect.right = mHorizontalSpacing - (column + 1) * mHorizontalSpacing / spanCount;
+            outRect.top = position >= spanCount ? mVerticalSpacing : 0;
+        }
+    }
+}
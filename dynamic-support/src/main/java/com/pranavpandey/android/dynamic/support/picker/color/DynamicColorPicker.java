@@ -24,7 +24,6 @@ import android.util.AttributeSet;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
-import android.widget.GridView;
 import android.widget.SeekBar;
 
 import androidx.annotation.AttrRes;
@@ -32,24 +31,23 @@ import androidx.annotation.ColorInt;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.pranavpandey.android.dynamic.support.R;
-import com.pranavpandey.android.dynamic.support.adapter.DynamicColorsAdapter;
+import com.pranavpandey.android.dynamic.support.adapter.DynamicPaletteAdapter;
 import com.pranavpandey.android.dynamic.support.listener.DynamicColorListener;
+import com.pranavpandey.android.dynamic.support.model.DynamicPalette;
 import com.pranavpandey.android.dynamic.support.picker.DynamicPickerType;
 import com.pranavpandey.android.dynamic.support.preference.DynamicPreferences;
 import com.pranavpandey.android.dynamic.support.setting.DynamicSeekBarCompact;
 import com.pranavpandey.android.dynamic.support.theme.DynamicColorPalette;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
+import com.pranavpandey.android.dynamic.support.utils.DynamicBatchUtils;
 import com.pranavpandey.android.dynamic.support.view.DynamicView;
 import com.pranavpandey.android.dynamic.support.widget.DynamicEditText;
 import com.pranavpandey.android.dynamic.support.widget.WidgetDefaults;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-
 /**
  * A color picker inside a DynamicView to display multiple grids of colors and their shades.
  * <p>It will be used internally by the
@@ -64,23 +62,15 @@ public class DynamicColorPicker extends DynamicView {
     private static final String ADS_PREF_COLOR_PICKER_CONTROL = "ads_pref_color_picker_control";
 
     /**
-     * Shared preference key to save the recently selected colors without alpha.
+     * The maximum color views to be kept in the shared pool of the palettes.
      */
-    private static final String ADS_PREF_COLOR_PICKER_RECENTS = "ads_pref_color_picker_recents";
-
-    /**
-     * Shared preference key to save the recently selected colors with alpha.
-     */
-    private static final String ADS_PREF_COLOR_PICKER_RECENTS_ALPHA =
-            "ads_pref_color_picker_recents_alpha";
-
-    /**
-     * The maximum recent colors count.
-     */
-    private static final int ADS_COLOR_PICKER_RECENTS_MAX = 8;
+    private static final int ADS_COLOR_PICKER_POOL_MAX = 24;
 
     /**
      * Recents color splitter to separate different colors.
+     * <p>It is used to read the recent colors saved by the older versions.
+     *
+     * @see DynamicColorRecents
      */
     public static final String ADS_COLOR_PICKER_RECENTS_SPLIT = ",";
 
@@ -97,27 +87,27 @@ public class DynamicColorPicker extends DynamicView {
     /**
      * Color entries used by this picker.
      */
-    private Integer[] mColors;
+    private int[] mColors;
 
     /**
      * Shade entries used by this picker.
      */
-    private Integer[][] mShades;
+    private int[][] mShades;
 
     /**
-     * Current shade entries used by this picker.
+     * Palette to find the position of the colors and shades used by this picker.
      */
-    private Integer[] mShadesCurrent;
+    private DynamicPalette mPalette;
 
     /**
-     * Recent entries used by this picker.
+     * Position of the color whose shades are currently displayed by this picker.
      */
-    private Integer[] mRecents;
+    private int mShadesPosition = DynamicPalette.ADS_POSITION_UNKNOWN;
 
     /**
-     * Recent array list to perform calculations.
+     * Recent entries used by this picker.
      */
-    private ArrayList<Integer> mRecentsList;
+    private int[] mRecents;
 
     /**
      * The previous color.
@@ -144,6 +134,11 @@ public class DynamicColorPicker extends DynamicView {
      */
     private float mHSVValue;
 
+    /**
+     * HSV components reused to convert the colors while dragging the seek bars.
+     */
+    private final float[] mHSV = new float[3];
+
     /**
      * Shape of the color swatches.
      *
@@ -167,19 +162,34 @@ public class DynamicColorPicker extends DynamicView {
     private ViewGroup mShadesView;
 
     /**
-     * Grid view to display primary colors.
+     * Palette view to display primary colors.
      */
-    private GridView mColorsGridView;
+    private DynamicColorPaletteView mColorsPaletteView;
 
     /**
-     * Grid view to display shades of the primary colors.
+     * Palette view to display shades of the primary colors.
      */
-    private GridView mShadesGridView;
+    private DynamicColorPaletteView mShadesPaletteView;
 
     /**
-     * Grid view to display the recently selected colors.
+     * Palette view to display the recently selected colors.
      */
-    private GridView mRecentsGridView;
+    private DynamicColorPaletteView mRecentsPaletteView;
+
+    /**
+     * Adapter to display primary colors.
+     */
+    private DynamicPaletteAdapter mColorsAdapter;
+
+    /**
+     * Adapter to display shades of the primary colors.
+     */
+    private DynamicPaletteAdapter mShadesAdapter;
+
+    /**
+     * Adapter to display the recently selected colors.
+     */
+    private DynamicPaletteAdapter mRecentsAdapter;
 
     /**
      * Color view to display the previous color.
@@ -261,6 +271,16 @@ public class DynamicColorPicker extends DynamicView {
      */
     private TextWatcher mEditTextWatcher;
 
+    /**
+     * Operation to apply the color typed in the edit text once per frame.
+     */
+    private DynamicBatchUtils.BatchOperation mEditTextOperation;
+
+    /**
+     * {@code true} if the color typed in the edit text is waiting to be applied.
+     */
+    private boolean mEditTextPending;
+
     /**
      * Seek bar listener for HSV color space to update the values accordingly.
      */
@@ -300,9 +320,9 @@ public class DynamicColorPicker extends DynamicView {
         inflate(getContext(), getLayoutRes(), this);
 
         mShadesView = findViewById(R.id.ads_color_picker_shades_root);
-        mColorsGridView = findViewById(R.id.ads_color_picker_colors);
-        mShadesGridView = findViewById(R.id.ads_color_picker_shades);
-        mRecentsGridView = findViewById(R.id.ads_color_picker_recents);
+        mColorsPaletteView = findViewById(R.id.ads_color_picker_colors);
+        mShadesPaletteView = findViewById(R.id.ads_color_picker_shades);
+        mRecentsPaletteView = findViewById(R.id.ads_color_picker_recents);
         mPreviousColorView = findViewById(R.id.ads_color_picker_color_previous);
         mColorView = findViewById(R.id.ads_color_picker_color);
         mEditText = findViewById(R.id.ads_color_picker_edit);
@@ -319,6 +339,12 @@ public class DynamicColorPicker extends DynamicView {
         mSeekBarGreen = findViewById(R.id.ads_color_picker_seek_green);
         mSeekBarBlue = findViewById(R.id.ads_color_picker_seek_blue);
 
+        RecyclerView.RecycledViewPool recycledViewPool = new RecyclerView.RecycledViewPool();
+        recycledViewPool.setMaxRecycledViews(0, ADS_COLOR_PICKER_POOL_MAX);
+        mColorsPaletteView.setRecycledViewPool(recycledViewPool);
+        mShadesPaletteView.setRecycledViewPool(recycledViewPool);
+        mRecentsPaletteView.setRecycledViewPool(recycledViewPool);
+
         mSeekBarRed.setColor(Color.RED);
         mSeekBarGreen.setColor(Color.GREEN);
         mSeekBarBlue.setColor(Color.BLUE);
@@ -339,25 +365,30 @@ public class DynamicColorPicker extends DynamicView {
 
                     @Override
                     public void onTextChanged(CharSequence s, int start, int before, int count) {
-                        if (!mUpdatingCustomColor) {
-                            try {
-                                mSelectedColor = Color.parseColor("#" + s.toString());
-                            } catch (IllegalArgumentException illegalArgumentException) {
-                                mSelectedColor = Color.BLACK;
-                            }
-
-                            setARGBColor(mSelectedColor);
-                            setHSVColor(mSelectedColor, true);
+                        if (mUpdatingCustomColor) {
+                            mColorView.setColor(mSelectedColor);
+                            mEditText.setColor(mSelectedColor);
+                        } else if (!mEditTextPending) {
+                            mEditTextPending = true;
+                            DynamicBatchUtils.post(mEditText, mEditTextOperation);
                         }
-
-                        mColorView.setColor(mSelectedColor);
-                        mEditText.setColor(mSelectedColor);
                     }
 
                     @Override
                     public void afterTextChanged(Editable s) { }
                 };
 
+        mEditTextOperation =
+                new DynamicBatchUtils.BatchOperation() {
+                    @Override
+                    public void onPrepare() { }
+
+                    @Override
+                    public void onApply(@NonNull View view) {
+                        applyEditTextColor();
+                    }
+                };
+
         mHSVSeekBarListener =
                 new SeekBar.OnSeekBarChangeListener() {
                     @Override
@@ -369,13 +400,11 @@ public class DynamicColorPicker extends DynamicView {
                             mHSVValue = mSeekBarValue.getProgress() / 100f;
 
                             if (mAlpha) {
-                                setCustom(Color.HSVToColor(mSeekBarAlpha.getProgress(),
-                                        new float[] { mHSVHue, mHSVSaturation, mHSVValue}),
-                                        false, true);
+                                setCustom(getHSVColor(mSeekBarAlpha.getProgress(),
+                                        mHSVHue, mHSVSaturation, mHSVValue), false, true);
                             } else {
-                                setCustom(Color.HSVToColor(
-                                        new float[] { mHSVHue, mHSVSaturation, mHSVValue }),
-                                        false, true);
+                                setCustom(getHSVColor(255,
+                                        mHSVHue, mHSVSaturation, mHSVValue), false, true);
                             }
                         }
                     }
@@ -473,6 +502,10 @@ public class DynamicColorPicker extends DynamicView {
             mColors = DynamicColorPalette.MATERIAL_COLORS;
         }
 
+        if (mPalette == null || mPalette.getColors() != mColors) {
+            mPalette = new DynamicPalette(mColors, mShades);
+        }
+
         if (mAlpha) {
             mEditText.setHint("FF123456");
             mSeekBarAlpha.setVisibility(VISIBLE);
@@ -481,24 +514,30 @@ public class DynamicColorPicker extends DynamicView {
             mSeekBarAlpha.setVisibility(GONE);
         }
 
-        mColorsGridView.setAdapter(new DynamicColorsAdapter(mColors,
-                mSelectedColor, mColorShape, mAlpha, new DynamicColorListener() {
-            @Override
-            public void onColorSelected(@Nullable String tag, int position, int color) {
-                if (mShades != null && position < mShades.length) {
-                    setShades(position, color);
-                }
+        if (mColorsAdapter == null) {
+            mColorsAdapter = new DynamicPaletteAdapter(mColors,
+                    mSelectedColor, mColorShape, mAlpha, new DynamicColorListener() {
+                @Override
+                public void onColorSelected(@Nullable String tag, int position, int color) {
+                    if (mShades != null && position < mShades.length) {
+                        setShades(position, color);
+                    }
 
-                setCustom(color, true, true);
-            }
-        }));
+                    setCustom(color, true, true);
+                }
+            });
+            mColorsPaletteView.setAdapter(mColorsAdapter);
+        } else {
+            setPalette(mColorsAdapter, mColors, mSelectedColor, mColorShape);
+        }
 
         mRecents = getRecents();
         setCustom(mSelectedColor, true, true);
         setRecents(mSelectedColor);
 
-        if (mColors != null && Arrays.asList(mColors).contains(mSelectedColor)) {
-            setShades(Arrays.asList(mColors).indexOf(mSelectedColor), mSelectedColor);
+        int position = mPalette.indexOf(mSelectedColor);
+        if (position != DynamicPalette.ADS_POSITION_UNKNOWN) {
+            setShades(position, mSelectedColor);
         } else {
             initializeShades(true);
         }
@@ -512,17 +551,13 @@ public class DynamicColorPicker extends DynamicView {
      * @param showCustom {@code true} to show the custom color view if no match is found.
      */
     private void initializeShades(boolean showCustom) {
-        if (mShades != null) {
-            for (int i = 0; i < mShades.length; i++) {
-                if (Arrays.asList(mShades[i]).contains(mSelectedColor)) {
-                    setSelectedColor(mColorsGridView, mColors[i]);
-                    setShades(i, mSelectedColor);
-                    break;
-                }
-
-                if (showCustom && i == mShades.length - 1) {
-                    showCustom();
-                }
+        if (mShades != null && mPalette != null) {
+            int position = mPalette.indexOfParent(mSelectedColor);
+            if (position != DynamicPalette.ADS_POSITION_UNKNOWN) {
+                setSelectedColor(mColorsAdapter, mColors[position]);
+                setShades(position, mSelectedColor);
+            } else if (showCustom) {
+                showCustom();
             }
         }
     }
@@ -564,14 +599,56 @@ public class DynamicColorPicker extends DynamicView {
 
         setHSVColor(color, setHSV);
 
-        mSeekBarHue.setColor(Color.HSVToColor(
-                new float[] { mSeekBarHue.getProgress(), 1f, 1f }));
-        mSeekBarSaturation.setColor(
-                Color.HSVToColor(new float[] { mHSVHue, mHSVSaturation, 1f }));
+        mSeekBarHue.setColor(getHSVColor(255, mSeekBarHue.getProgress(), 1f, 1f));
+        mSeekBarSaturation.setColor(getHSVColor(255, mHSVHue, mHSVSaturation, 1f));
         mSeekBarValue.setColor(color);
         mUpdatingCustomColor = false;
     }
 
+    /**
+     * Apply the color typed in the edit text.
+     * <p>It will be called only once per frame while typing and will update the seek bars
+     * without triggering their listeners.
+     */
+    private void applyEditTextColor() {
+        mEditTextPending = false;
+
+        @ColorInt int color = parseColor(mEditText.getText());
+        mUpdatingCustomColor = true;
+        mSelectedColor = color;
+
+        setARGBColor(color);
+        setHSVColor(color, true);
+        mColorView.setColor(color);
+        mEditText.setColor(color);
+        mUpdatingCustomColor = false;
+    }
+
+    /**
+     * Parse a color from its hexadecimal string without the leading {@code #}.
+     *
+     * @param hex The hexadecimal string in {@code RRGGBB} or {@code AARRGGBB} format.
+     *
+     * @return The parsed color, otherwise {@link Color#BLACK} if the string is not valid.
+     */
+    private static @ColorInt int parseColor(@Nullable CharSequence hex) {
+        if (hex == null || (hex.length() != 6 && hex.length() != 8)) {
+            return Color.BLACK;
+        }
+
+        int color = 0;
+        for (int i = 0; i < hex.length(); i++) {
+            int digit = Character.digit(hex.charAt(i), 16);
+            if (digit < 0) {
+                return Color.BLACK;
+            }
+
+            color = (color << 4) | digit;
+        }
+
+        return hex.length() == 6 ? color | 0xFF000000 : color;
+    }
+
     /**
      * Set ARGB values according to the selected color.
      *
@@ -583,53 +660,94 @@ public class DynamicColorPicker extends DynamicView {
         mSeekBarBlue.setProgress(Color.blue(color));
     }
 
+    /**
+     * Get the color from the HSV components without allocating a new array.
+     *
+     * @param alpha The alpha component of the color.
+     * @param hue The hue component of the color.
+     * @param saturation The saturation component of the color.
+     * @param value The value component of the color.
+     *
+     * @return The color from the HSV components.
+     */
+    private @ColorInt int getHSVColor(int alpha, float hue, float saturation, float value) {
+        mHSV[0] = hue;
+        mHSV[1] = saturation;
+        mHSV[2] = value;
+
+        return Color.HSVToColor(alpha, mHSV);
+    }
+
     /**
      * Set HSV values according to the selected color.
      *
      * @param color The selected color.
      */
     private void setHSVColor(@ColorInt int color, boolean setProgress) {
-        float[] hsv = new float[3];
-        Color.colorToHSV(DynamicColorUtils.removeAlpha(color), hsv);
-        mHSVHue = hsv[0];
-        mHSVSaturation = hsv[1] * 100;
-        mHSVValue = hsv[2] * 100;
+        Color.colorToHSV(DynamicColorUtils.removeAlpha(color), mHSV);
+        mHSVHue = mHSV[0];
+        mHSVSaturation = mHSV[1] * 100;
+        mHSVValue = mHSV[2] * 100;
 
         if (setProgress) {
-            mSeekBarHue.setProgress((int) hsv[0]);
+            mSeekBarHue.setProgress((int) mHSV[0]);
             mSeekBarSaturation.setProgress((int) mHSVSaturation);
             mSeekBarValue.setProgress((int) mHSVValue);
         }
     }
 
     /**
-     * Set selected color for the grid views containing colors.
+     * Set selected color for the palette adapters containing colors.
+     * <p>Only the previous and the new selected colors will be rebound.
      *
-     * @param gridView The grid view to select the color.
+     * @param adapter The palette adapter to select the color.
      * @param color The color to be selected.
      */
-    private void setSelectedColor(@NonNull GridView gridView, @ColorInt int color) {
-        if (gridView.getAdapter() != null) {
-            ((DynamicColorsAdapter) gridView.getAdapter()).setSelectedColor(color);
+    private void setSelectedColor(@Nullable DynamicPaletteAdapter adapter, @ColorInt int color) {
+        if (adapter != null) {
+            adapter.setSelectedColor(color);
         }
     }
 
+    /**
+     * Update the palette adapter with the supplied colors.
+     * <p>The existing adapter will be reused and only the changed colors will be rebound.
+     *
+     * @param adapter The palette adapter to be updated.
+     * @param colors The colors to be set.
+     * @param selectedColor The color to be selected.
+     * @param colorShape The shape of the color swatches.
+     */
+    private void setPalette(@NonNull DynamicPaletteAdapter adapter,
+            @NonNull @ColorInt int[] colors, @ColorInt int selectedColor,
+            @DynamicColorShape int colorShape) {
+        if (adapter.getColorShape() != colorShape) {
+            adapter.setColorShape(colorShape);
+        }
+
+        if (adapter.isAlpha() != mAlpha) {
+            adapter.setAlpha(mAlpha);
+        }
+
+        adapter.setDataSet(colors, selectedColor);
+    }
+
     /**
      * Set presets according to the selected color.
      *
      * @param color The selected color.
      */
     protected void setPresets(@ColorInt int color) {
-        setSelectedColor(mColorsGridView, color);
-        setSelectedColor(mShadesGridView, color);
-        setSelectedColor(mRecentsGridView, color);
+        setSelectedColor(mColorsAdapter, color);
+        setSelectedColor(mShadesAdapter, color);
+        setSelectedColor(mRecentsAdapter, color);
 
-        if (mShadesCurrent != null) {
-            if (!Arrays.asList(mShadesCurrent).contains(color)) {
+        if (mShadesPosition != DynamicPalette.ADS_POSITION_UNKNOWN) {
+            if (mPalette.indexOfShade(mShadesPosition, color)
+                    == DynamicPalette.ADS_POSITION_UNKNOWN) {
                 mShadesView.setVisibility(GONE);
             } else {
-                setSelectedColor(mColorsGridView,
-                        mColors[Arrays.asList(mShades).indexOf(mShadesCurrent)]);
+                setSelectedColor(mColorsAdapter, mColors[mShadesPosition]);
             }
         }
 
@@ -648,14 +766,21 @@ public class DynamicColorPicker extends DynamicView {
         if (mShades != null && position < mShades.length) {
             if (mShades[position] != null) {
                 mShadesView.setVisibility(VISIBLE);
-                mShadesCurrent = mShades[position];
-                mShadesGridView.setAdapter(new DynamicColorsAdapter(mShadesCurrent,
-                        color, mColorShape, mAlpha, new DynamicColorListener() {
-                    @Override
-                    public void onColorSelected(@Nullable String tag, int position, int color) {
-                        setCustom(color, true, true);
-                    }
-                }));
+                mShadesPosition = position;
+
+                if (mShadesAdapter == null) {
+                    mShadesAdapter = new DynamicPaletteAdapter(mShades[position],
+                            color, mColorShape, mAlpha, new DynamicColorListener() {
+                        @Override
+                        public void onColorSelected(
+                                @Nullable String tag, int position, int color) {
+                            setCustom(color, true, true);
+                        }
+                    });
+                    mShadesPaletteView.setAdapter(mShadesAdapter);
+                } else {
+                    setPalette(mShadesAdapter, mShades[position], color, mColorShape);
+                }
             }
         } else {
             mShadesView.setVisibility(GONE);
@@ -670,16 +795,22 @@ public class DynamicColorPicker extends DynamicView {
     protected void setRecents(@ColorInt int color) {
         if (mRecents != null && mRecents.length > 0) {
             findViewById(R.id.ads_color_picker_recents_root).setVisibility(VISIBLE);
-            mRecentsGridView.setAdapter(new DynamicColorsAdapter(mRecents,
-                    color, mColorShape == DynamicColorShape.CIRCLE
-                    ? DynamicColorShape.SQUARE : DynamicColorShape.CIRCLE, mAlpha,
-                    new DynamicColorListener() {
-                        @Override
-                        public void onColorSelected(
-                                @Nullable String tag, int position, int color) {
-                            setCustom(color, true, true);
-                        }
-                    }));
+            @DynamicColorShape int colorShape = mColorShape == DynamicColorShape.CIRCLE
+                    ? DynamicColorShape.SQUARE : DynamicColorShape.CIRCLE;
+
+            if (mRecentsAdapter == null) {
+                mRecentsAdapter = new DynamicPaletteAdapter(mRecents,
+                        color, colorShape, mAlpha, new DynamicColorListener() {
+                    @Override
+                    public void onColorSelected(
+                            @Nullable String tag, int position, int color) {
+                        setCustom(color, true, true);
+                    }
+                });
+                mRecentsPaletteView.setAdapter(mRecentsAdapter);
+            } else {
+                setPalette(mRecentsAdapter, mRecents, color, colorShape);
+            }
         } else {
             findViewById(R.id.ads_color_picker_recents_root).setVisibility(GONE);
         }
@@ -792,14 +923,14 @@ public class DynamicColorPicker extends DynamicView {
      *
      * @return The color entries used by the picker.
      */
-    public Integer[] getColors() {
+    public int[] getColors() {
         return mColors;
     }
 
     /**
      * @return The shade entries used by the picker.
      */
-    public Integer[][] getShades() {
+    public int[][] getShades() {
         return mShades;
     }
 
@@ -809,10 +940,12 @@ public class DynamicColorPicker extends DynamicView {
      * @param colors The color entries to be set.
      * @param shades The shade entries to be set.
      */
-    public void setColors(@NonNull @ColorInt Integer[] colors,
-            @Nullable @ColorInt Integer[][] shades) {
+    public void setColors(@NonNull @ColorInt int[] colors,
+            @Nullable @ColorInt int[][] shades) {
         this.mColors = colors;
         this.mShades = shades;
+        this.mPalette = null;
+        this.mShadesPosition = DynamicPalette.ADS_POSITION_UNKNOWN;
     }
 
     /**
@@ -909,72 +1042,25 @@ public class DynamicColorPicker extends DynamicView {
      * Save the selected color to recents list.
      *
      * @param color The selected color.
+     *
+     * @see DynamicColorRecents
      */
-    protected void saveToRecents(@ColorInt Integer color) {
+    protected void saveToRecents(@ColorInt int color) {
         if (color == Theme.AUTO) {
             return;
         }
 
-        mRecentsList = new ArrayList<Integer>();
-        mRecents = getRecents();
-
-        if (mRecents != null) {
-            mRecentsList.addAll(Arrays.asList(mRecents));
-        }
-
-        if (!mRecentsList.contains(color)) {
-            mRecentsList.add(0, color);
-        } else {
-            mRecentsList.remove(color);
-            mRecentsList.add(0, color);
-        }
-
-        if (mRecentsList.size() > ADS_COLOR_PICKER_RECENTS_MAX) {
-            List<Integer> mRecentsTemp = mRecentsList.subList(0, ADS_COLOR_PICKER_RECENTS_MAX);
-
-            mRecentsList = new ArrayList<>();
-            mRecentsList.addAll(mRecentsTemp);
-        }
-
-        StringBuilder recents = new StringBuilder();
-        for (int i = 0; i < mRecentsList.size(); i++) {
-            recents.append(mRecentsList.get(i)).append(ADS_COLOR_PICKER_RECENTS_SPLIT);
-        }
-
-        if (!mAlpha) {
-            DynamicPreferences.getInstance().savePrefs(
-                    ADS_PREF_COLOR_PICKER_RECENTS, recents.toString());
-        } else {
-            DynamicPreferences.getInstance().savePrefs(
-                    ADS_PREF_COLOR_PICKER_RECENTS_ALPHA, recents.toString());
-        }
+        DynamicColorRecents.getInstance(mAlpha).add(color);
     }
 
     /**
-     * Returns the saved recent colors from the shared preferences.
+     * Returns the recent colors shared by all the color pickers.
+     *
+     * @return The recent colors shared by all the color pickers.
      *
-     * @return The saved recent colors from the shared preferences.
+     * @see DynamicColorRecents
      */
-    protected Integer[] getRecents() {
-        String recentsString;
-        if (mAlpha) {
-            recentsString = DynamicPreferences.getInstance().loadPrefs(
-                    ADS_PREF_COLOR_PICKER_RECENTS_ALPHA, null);
-        } else {
-            recentsString = DynamicPreferences.getInstance().loadPrefs(
-                    ADS_PREF_COLOR_PICKER_RECENTS, null);
-        }
-
-         if (recentsString != null) {
-             String[] recentsTemp = recentsString.split(ADS_COLOR_PICKER_RECENTS_SPLIT);
-             Integer[] recents = new Integer[recentsTemp.length];
-             for (int i = 0; i < recentsTemp.length; i++) {
-                 recents[i] = Integer.valueOf(recentsTemp[i]);
-             }
-
-             return recents;
-         }
-
-         return null;
+    protected @Nullable int[] getRecents() {
+        return DynamicColorRecents.getInstance(mAlpha).getColors();
     }
 }
@@ -38,8 +38,6 @@ import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.view.DynamicHeader;
 
-import java.util.Arrays;
-
 /**
  * A {@link PopupWindow} to display a grid of colors.
  * <p>It will be used internally by the
@@ -71,7 +69,7 @@ public class DynamicColorPopup extends DynamicPopup {
     /**
      * Color entries used by this popup.
      */
-    private @ColorInt Integer[] mEntries;
+    private @ColorInt int[] mEntries;
 
     /**
      * The default color to be shown in footer.
@@ -117,7 +115,7 @@ public class DynamicColorPopup extends DynamicPopup {
      * @param entries The color entries for this popup.
      * @param dynamicColorListener The color listener to get the selected color.
      */
-    public DynamicColorPopup(@NonNull View anchor, @NonNull Integer[] entries,
+    public DynamicColorPopup(@NonNull View anchor, @NonNull int[] entries,
             @NonNull DynamicColorListener dynamicColorListener) {
         this.mAnchor = anchor;
         this.mEntries = entries;
@@ -145,7 +143,7 @@ public class DynamicColorPopup extends DynamicPopup {
         final GridView gridView = mView.findViewById(R.id.ads_color_picker_presets);
 
         if (mSelectedColor == DynamicResourceUtils.ADS_DEFAULT_RESOURCE_VALUE
-                || Arrays.asList(mEntries).contains(mSelectedColor)) {
+                || isEntry(mSelectedColor)) {
             mFooterView.findViewById(R.id.ads_color_picker_popup_footer_image)
                     .setVisibility(View.VISIBLE);
         } else {
@@ -212,6 +210,23 @@ public class DynamicColorPopup extends DynamicPopup {
         return this;
     }
 
+    /**
+     * Checks whether the supplied color is one of the color entries.
+     *
+     * @param color The color to be checked.
+     *
+     * @return {@code true} if the color is one of the color entries.
+     */
+    private boolean isEntry(@ColorInt int color) {
+        for (int entry : mEntries) {
+            if (entry == color) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Set color view according to the supplied parameters.
      *
@@ -284,7 +299,7 @@ public class DynamicColorPopup extends DynamicPopup {
      *
      * @return The color entries used by this popup.
      */
-    public Integer[] getEntries() {
+    public int[] getEntries() {
         return mEntries;
     }
 
@@ -293,7 +308,7 @@ public class DynamicColorPopup extends DynamicPopup {
      *
      * @param entries The color entries to be set.
      */
-    public void setEntries(Integer[] entries) {
+    public void setEntries(int[] entries) {
         this.mEntries = entries;
     }
 
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.picker.color;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.support.preference.DynamicPreferences;
+
+/**
+ * A store to keep the recently selected colors in a fixed capacity ring buffer.
+ * <p>It is shared by all the color pickers and loaded only once from the shared preferences.
+ * Changes are persisted asynchronously as fixed width hexadecimal colors.
+ */
+public final class DynamicColorRecents {
+
+    /**
+     * Shared preference key to save the recently selected colors without alpha.
+     */
+    private static final String ADS_PREF_COLOR_PICKER_RECENTS = "ads_pref_color_picker_recents";
+
+    /**
+     * Shared preference key to save the recently selected colors with alpha.
+     */
+    private static final String ADS_PREF_COLOR_PICKER_RECENTS_ALPHA =
+            "ads_pref_color_picker_recents_alpha";
+
+    /**
+     * The maximum recent colors count.
+     */
+    public static final int ADS_COLOR_PICKER_RECENTS_MAX = 8;
+
+    /**
+     * Number of hexadecimal characters used to encode a color.
+     */
+    private static final int ADS_COLOR_LENGTH = 8;
+
+    /**
+     * Hexadecimal characters to encode the colors.
+     */
+    private static final char[] ADS_HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Store for the recently selected colors without alpha.
+     */
+    private static DynamicColorRecents sRecents;
+
+    /**
+     * Store for the recently selected colors with alpha.
+     */
+    private static DynamicColorRecents sRecentsAlpha;
+
+    /**
+     * Shared preference key to persist this store.
+     */
+    private final String mKey;
+
+    /**
+     * Ring buffer to hold the recent colors.
+     */
+    private final @ColorInt int[] mColors;
+
+    /**
+     * Index of the most recent color in the ring buffer.
+     */
+    private int mHead;
+
+    /**
+     * Number of colors in the ring buffer.
+     */
+    private int mSize;
+
+    /**
+     * {@code true} if the colors have been loaded from the shared preferences.
+     */
+    private boolean mLoaded;
+
+    /**
+     * Recent colors ordered from the most recent, cached till the next change.
+     */
+    private @ColorInt int[] mSnapshot;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param key The shared preference key to persist this store.
+     */
+    private DynamicColorRecents(@NonNull String key) {
+        this.mKey = key;
+        this.mColors = new int[ADS_COLOR_PICKER_RECENTS_MAX];
+    }
+
+    /**
+     * Get the recents store according to the alpha support.
+     *
+     * @param alpha {@code true} to get the store for the colors with alpha.
+     *
+     * @return The recents store according to the alpha support.
+     */
+    public static synchronized @NonNull DynamicColorRecents getInstance(boolean alpha) {
+        if (alpha) {
+            if (sRecentsAlpha == null) {
+                sRecentsAlpha = new DynamicColorRecents(ADS_PREF_COLOR_PICKER_RECENTS_ALPHA);
+            }
+
+            return sRecentsAlpha;
+        } else {
+            if (sRecents == null) {
+                sRecents = new DynamicColorRecents(ADS_PREF_COLOR_PICKER_RECENTS);
+            }
+
+            return sRecents;
+        }
+    }
+
+    /**
+     * Add a color to this store as the most recent one.
+     * <p>If the color already exists then, it will be moved to the front.
+     *
+     * @param color The color to be added.
+     */
+    public synchronized void add(@ColorInt int color) {
+        load();
+
+        int index = indexOf(color);
+        if (index == 0) {
+            return;
+        }
+
+        if (index > 0) {
+            for (int i = index; i > 0; i--) {
+                mColors[getPosition(i)] = mColors[getPosition(i - 1)];
+            }
+        } else {
+            mHead = (mHead + mColors.length - 1) % mColors.length;
+            if (mSize < mColors.length) {
+                mSize++;
+            }
+        }
+
+        mColors[mHead] = color;
+        mSnapshot = null;
+        save();
+    }
+
+    /**
+     * Get the recent colors ordered from the most recent.
+     *
+     * @return The recent colors ordered from the most recent, otherwise {@code null}.
+     */
+    public synchronized @Nullable @ColorInt int[] getColors() {
+        load();
+
+        if (mSize == 0) {
+            return null;
+        }
+
+        if (mSnapshot == null) {
+            mSnapshot = new int[mSize];
+            for (int i = 0; i < mSize; i++) {
+                mSnapshot[i] = mColors[getPosition(i)];
+            }
+        }
+
+        return mSnapshot;
+    }
+
+    /**
+     * Remove all the colors from this store.
+     */
+    public synchronized void clear() {
+        mHead = 0;
+        mSize = 0;
+        mLoaded = true;
+        mSnapshot = null;
+
+        DynamicPreferences.getInstance().deletePrefs(mKey);
+    }
+
+    /**
+     * Get the position in the ring buffer for the supplied index.
+     *
+     * @param index The index from the most recent color.
+     *
+     * @return The position in the ring buffer for the supplied index.
+     */
+    private int getPosition(int index) {
+        return (mHead + index) % mColors.length;
+    }
+
+    /**
+     * Get the index of a color from the most recent one.
+     *
+     * @param color The color to find the index.
+     *
+     * @return The index of the color, otherwise {@code -1}.
+     */
+    private int indexOf(@ColorInt int color) {
+        for (int i = 0; i < mSize; i++) {
+            if (mColors[getPosition(i)] == color) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Load the colors from the shared preferences if not loaded already.
+     * <p>It also supports the colors separated by
+     * {@link DynamicColorPicker#ADS_COLOR_PICKER_RECENTS_SPLIT} saved by the older versions.
+     */
+    private void load() {
+        if (mLoaded) {
+            return;
+        }
+
+        mLoaded = true;
+        mHead = 0;
+        mSize = 0;
+
+        String recents = DynamicPreferences.getInstance().loadPrefs(mKey, null);
+        if (recents == null) {
+            return;
+        }
+
+        try {
+            if (recents.contains(DynamicColorPicker.ADS_COLOR_PICKER_RECENTS_SPLIT)) {
+                String[] colors = recents.split(DynamicColorPicker.ADS_COLOR_PICKER_RECENTS_SPLIT);
+                for (int i = 0; i < colors.length && mSize < mColors.length; i++) {
+                    mColors[mSize++] = Integer.parseInt(colors[i]);
+                }
+            } else {
+                for (int i = 0; i + ADS_COLOR_LENGTH <= recents.length()
+                        && mSize < mColors.length; i += ADS_COLOR_LENGTH) {
+                    mColors[mSize++] = decode(recents, i);
+                }
+            }
+        } catch (Exception ignored) {
+            mSize = 0;
+        }
+    }
+
+    /**
+     * Persist the colors asynchronously in the shared preferences.
+     */
+    private void save() {
+        char[] recents = new char[mSize * ADS_COLOR_LENGTH];
+        for (int i = 0; i < mSize; i++) {
+            encode(mColors[getPosition(i)], recents, i * ADS_COLOR_LENGTH);
+        }
+
+        DynamicPreferences.getInstance().savePrefs(mKey, new String(recents));
+    }
+
+    /**
+     * Encode a color into fixed width hexadecimal characters.
+     *
+     * @param color The color to be encoded.
+     * @param chars The characters to write the encoded color.
+     * @param offset The offset to start writing the characters.
+     */
+    private static void encode(@ColorInt int color, @NonNull char[] chars, int offset) {
+        for (int i = ADS_COLOR_LENGTH - 1; i >= 0; i--) {
+            chars[offset + i] = ADS_HEX_CHARS[color & 0xF];
+            color >>>= 4;
+        }
+    }
+
+    /**
+     * Decode a color from fixed width hexadecimal characters.
+     *
+     * @param string The string containing the encoded color.
+     * @param offset The offset to start reading the characters.
+     *
+     * @return The decoded color.
+     */
+    private static @ColorInt int decode(@NonNull String string, int offset) {
+        int color = 0;
+        for (int i = 0; i < ADS_COLOR_LENGTH; i++) {
+            int digit = Character.digit(string.charAt(offset + i), 16);
+            if (digit < 0) {
+                throw new NumberFormatException(string);
+            }
+
+            color = (color << 4) | digit;
+        }
+
+        return color;
+    }
+}
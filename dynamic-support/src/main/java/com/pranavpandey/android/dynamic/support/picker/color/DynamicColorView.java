@@ -16,30 +16,27 @@
 
 package com.pranavpandey.android.dynamic.support.picker.color;
 
-import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.TypedArray;
-import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.PorterDuff;
-import android.graphics.PorterDuffColorFilter;
 import android.graphics.RadialGradient;
 import android.graphics.RectF;
 import android.graphics.Shader;
-import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
+import android.graphics.drawable.GradientDrawable;
+import android.graphics.drawable.InsetDrawable;
 import android.graphics.drawable.StateListDrawable;
-import android.os.Build;
 import android.util.AttributeSet;
 import android.view.View;
-import android.view.ViewTreeObserver;
 import android.widget.FrameLayout;
 import android.widget.Toast;
 
 import androidx.annotation.AttrRes;
 import androidx.annotation.ColorInt;
 import androidx.annotation.ColorRes;
+import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
@@ -50,10 +47,8 @@ import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.WidgetDefaults;
 import com.pranavpandey.android.dynamic.toasts.DynamicHint;
-import com.pranavpandey.android.dynamic.utils.DynamicBitmapUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicUnitUtils;
-import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
 
 /**
  * A FrameLayout to display a color in different {@link DynamicColorShape}.
@@ -93,14 +88,29 @@ public class DynamicColorView extends FrameLayout {
     private Paint mColorStrokePaint;
 
     /**
-     * Paint for the selector drawable.
+     * Color for the selector and the pressed state.
      */
-    private Paint mSelectorPaint;
+    private @ColorInt int mSelectorColor;
 
     /**
-     * Bitmap for the selector drawable.
+     * Resource id of the selector drawable.
      */
-    private Bitmap mSelectorBitmap;
+    private @DrawableRes int mSelectorRes;
+
+    /**
+     * Selector drawable to be drawn when this color view is selected.
+     */
+    private Drawable mSelectorDrawable;
+
+    /**
+     * Shape drawable for the pressed state.
+     */
+    private GradientDrawable mForegroundShape;
+
+    /**
+     * State list drawable to be used as the foreground when this color view is clickable.
+     */
+    private StateListDrawable mForegroundDrawable;
 
     /**
      * Shape used by this color view.
@@ -172,36 +182,23 @@ public class DynamicColorView extends FrameLayout {
 
         mColorPaint = new Paint();
         mColorStrokePaint = new Paint();
-        mSelectorPaint = new Paint();
         mRectF = new RectF(0, 0, getMeasuredWidth(), getMeasuredHeight());
 
         mColorPaint.setStyle(Paint.Style.FILL);
         mColorStrokePaint.setStyle(Paint.Style.STROKE);
-        mSelectorPaint.setStyle(Paint.Style.FILL);
         mColorStrokePaint.setStrokeWidth(ADS_STROKE_WIDTH);
         mColorStrokePaint.setStrokeCap(Paint.Cap.ROUND);
         mColorStrokePaint.setAntiAlias(true);
         mColorPaint.setAntiAlias(true);
-        mSelectorPaint.setAntiAlias(true);
-        mSelectorPaint.setFilterBitmap(true);
+
+        mForegroundShape = new GradientDrawable();
+        mForegroundDrawable = new StateListDrawable();
+        mForegroundDrawable.addState(new int[] { android.R.attr.state_pressed },
+                new InsetDrawable(mForegroundShape, ADS_STROKE_WIDTH));
+        mForegroundDrawable.setAlpha(ADS_STATE_ALPHA);
 
         onUpdate(mColor);
         setWillNotDraw(false);
-
-        getViewTreeObserver().addOnGlobalLayoutListener(
-                new ViewTreeObserver.OnGlobalLayoutListener() {
-                    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
-                    @Override
-                    public void onGlobalLayout() {
-                        if (DynamicVersionUtils.isJellyBean()) {
-                            getViewTreeObserver().removeOnGlobalLayoutListener(this);
-                        } else {
-                            getViewTreeObserver().removeGlobalOnLayoutListener(this);
-                        }
-
-                        setColor(mColor);
-                    }
-        });
     }
 
     /**
@@ -214,8 +211,7 @@ public class DynamicColorView extends FrameLayout {
             @ColorInt int tintColor = DynamicColorUtils.getTintColor(
                     DynamicTheme.getInstance().get().getBackgroundColor());
 
-            mSelectorBitmap = DynamicBitmapUtils.getBitmapFormDrawable(
-                    DynamicResourceUtils.getDrawable(getContext(), R.drawable.ads_ic_play));
+            setSelectorRes(R.drawable.ads_ic_play);
             mColorStrokePaint.setColor(tintColor);
             mColorPaint.setColor(DynamicTheme.getInstance().get().getBackgroundColor());
 
@@ -229,17 +225,74 @@ public class DynamicColorView extends FrameLayout {
                 mColorPaint.setShader(gradient);
             }
         } else {
-            mSelectorBitmap = DynamicBitmapUtils.getBitmapFormDrawable(
-                    DynamicResourceUtils.getDrawable(getContext(), R.drawable.ads_ic_check));
+            setSelectorRes(R.drawable.ads_ic_check);
             mColorPaint.setColor(color);
             mColorStrokePaint.setColor(DynamicColorUtils.getTintColor(color));
 
             mColorPaint.setShader(null);
         }
 
-        mSelectorPaint.setColor(mColorStrokePaint.getColor());
-        mSelectorPaint.setColorFilter(new PorterDuffColorFilter(
-                mColorStrokePaint.getColor(), PorterDuff.Mode.SRC_ATOP));
+        mSelectorColor = mColorStrokePaint.getColor();
+        if (mSelectorDrawable != null) {
+            mSelectorDrawable.setColorFilter(mSelectorColor, PorterDuff.Mode.SRC_ATOP);
+        }
+
+        updateForeground();
+    }
+
+    /**
+     * Set the selector drawable resource, it will be loaded only if it has been changed.
+     *
+     * @param selectorRes The resource id of the selector drawable.
+     */
+    private void setSelectorRes(@DrawableRes int selectorRes) {
+        if (mSelectorRes == selectorRes && mSelectorDrawable != null) {
+            return;
+        }
+
+        mSelectorRes = selectorRes;
+        mSelectorDrawable = DynamicResourceUtils.getDrawable(getContext(), selectorRes);
+
+        if (mSelectorDrawable != null) {
+            mSelectorDrawable = mSelectorDrawable.mutate();
+            updateSelectorBounds();
+        }
+    }
+
+    /**
+     * Update the bounds of the selector drawable according to the size of this color view.
+     */
+    private void updateSelectorBounds() {
+        if (mSelectorDrawable == null) {
+            return;
+        }
+
+        int selectorSize = (int) (getMeasuredWidth() - getMeasuredWidth() / ADS_ICON_DIVISOR);
+        int selectorOffset = (getMeasuredWidth() - selectorSize) / 2;
+        mSelectorDrawable.setBounds(selectorOffset, selectorOffset,
+                selectorOffset + selectorSize, selectorOffset + selectorSize);
+    }
+
+    /**
+     * Update the foreground drawable for the pressed state according to the current
+     * parameters.
+     * <p>It will be used only if this color view is clickable.
+     */
+    private void updateForeground() {
+        if (mForegroundDrawable == null) {
+            return;
+        }
+
+        mForegroundShape.setShape(mColorShape == DynamicColorShape.CIRCLE
+                ? GradientDrawable.OVAL : GradientDrawable.RECTANGLE);
+        mForegroundShape.setCornerRadius(mColorShape == DynamicColorShape.CIRCLE
+                ? 0 : mCornerRadius);
+        mForegroundShape.setColor(mSelectorColor);
+
+        Drawable foreground = isClickable() ? mForegroundDrawable : null;
+        if (getForeground() != foreground) {
+            setForeground(foreground);
+        }
     }
 
     @Override
@@ -253,14 +306,20 @@ public class DynamicColorView extends FrameLayout {
         }
     }
 
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        mRectF.set(ADS_STROKE_WIDTH, ADS_STROKE_WIDTH,
+                getMeasuredWidth() - ADS_STROKE_WIDTH, getMeasuredHeight() - ADS_STROKE_WIDTH);
+        updateSelectorBounds();
+        onUpdate(mColor);
+    }
+
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
 
-        mRectF.set(0, 0, getMeasuredWidth(), getMeasuredHeight());
-        mRectF.set(ADS_STROKE_WIDTH, ADS_STROKE_WIDTH, mRectF.width() - ADS_STROKE_WIDTH,
-                mRectF.height() - ADS_STROKE_WIDTH);
-
         if (mColorShape == DynamicColorShape.CIRCLE) {
             canvas.drawOval(mRectF, mColorPaint);
             canvas.drawOval(mRectF, mColorStrokePaint);
@@ -269,32 +328,16 @@ public class DynamicColorView extends FrameLayout {
             canvas.drawRoundRect(mRectF, mCornerRadius, mCornerRadius, mColorStrokePaint);
         }
 
-        if (mSelected) {
-            final int selectorSize = (int) (getMeasuredWidth() - getMeasuredWidth() / ADS_ICON_DIVISOR);
-            mSelectorBitmap = DynamicBitmapUtils
-                    .resizeBitmap(mSelectorBitmap, selectorSize, selectorSize);
-
-            canvas.drawBitmap(mSelectorBitmap,
-                    (getMeasuredWidth() - mSelectorBitmap.getWidth()) / 2f,
-                    (getMeasuredWidth() - mSelectorBitmap.getHeight()) / 2f, mSelectorPaint);
-        }
-
-        if (isClickable()) {
-            setForeground(getForegroundDrawable());
+        if (mSelected && mSelectorDrawable != null) {
+            mSelectorDrawable.draw(canvas);
         }
     }
 
     @Override
-    public void onDetachedFromWindow() {
-        super.onDetachedFromWindow();
+    public void setClickable(boolean clickable) {
+        super.setClickable(clickable);
 
-        try {
-            if (mSelectorBitmap != null && !mSelectorBitmap.isRecycled()) {
-                mSelectorBitmap.recycle();
-                mSelectorBitmap = null;
-            }
-        } catch (Exception ignored) {
-        }
+        updateForeground();
     }
 
     @Override
@@ -304,34 +347,6 @@ public class DynamicColorView extends FrameLayout {
         setAlpha(enabled ? WidgetDefaults.ADS_ALPHA_ENABLED : WidgetDefaults.ADS_ALPHA_DISABLED);
     }
 
-    /**
-     * Returns a state list drawable to use it as the foreground for this color view.
-     *
-     * @return A state list drawable according to the color to use as the foreground  drawable
-     *         for this color view.
-     */
-    private StateListDrawable getForegroundDrawable() {
-        Bitmap bitmap = Bitmap.createBitmap(
-                (int) mRectF.width() + ADS_STROKE_WIDTH,
-                (int) mRectF.height() + ADS_STROKE_WIDTH,
-                Bitmap.Config.ARGB_8888
-        );
-
-        Canvas canvas = new Canvas(bitmap);
-        if (mColorShape == DynamicColorShape.CIRCLE) {
-            canvas.drawOval(mRectF, mSelectorPaint);
-        } else {
-            canvas.drawRoundRect(mRectF, mCornerRadius, mCornerRadius, mSelectorPaint);
-        }
-
-        StateListDrawable stateListDrawable = new StateListDrawable();
-        stateListDrawable.addState(new int[] {android.R.attr.state_pressed},
-                new BitmapDrawable(getResources(), bitmap));
-        stateListDrawable.setAlpha(ADS_STATE_ALPHA);
-
-        return stateListDrawable;
-    }
-
     /**
      * Show a cheat sheet around (below or above) this color view with hexadecimal color string
      * according to the {@link #mColor}.
@@ -342,11 +357,11 @@ public class DynamicColorView extends FrameLayout {
         final @ColorInt int tintColor;
 
         if (mColor == Theme.AUTO) {
-            color = mSelectorPaint.getColor();
+            color = mSelectorColor;
             tintColor = DynamicColorUtils.getTintColor(color);
         } else {
             color = mColor;
-            tintColor = mSelectorPaint.getColor();
+            tintColor = mSelectorColor;
         }
 
         if (mSelected) {
@@ -397,6 +412,7 @@ public class DynamicColorView extends FrameLayout {
     public void setColorShape(@DynamicColorShape int colorShape) {
         this.mColorShape = colorShape;
 
+        updateForeground();
         requestLayout();
         invalidate();
     }
@@ -460,6 +476,7 @@ public class DynamicColorView extends FrameLayout {
     public void setCornerRadius(int cornerRadius) {
         this.mCornerRadius = cornerRadius;
 
+        updateForeground();
         requestLayout();
         invalidate();
     }
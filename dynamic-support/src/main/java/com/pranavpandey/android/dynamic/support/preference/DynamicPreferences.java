@@ -23,9 +23,23 @@ import android.preference.PreferenceManager;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Helper class to handle shared preferences operations like saving or retrieving the values from
  * default shared preferences. It must be initialized once before accessing its methods.
+ * <p>Values are cached in memory and invalidated whenever a key is changed, so the listeners
+ * should be registered via {@link #registerOnSharedPreferenceChangeListener(String,
+ * SharedPreferences.OnSharedPreferenceChangeListener)} to be notified after the invalidation.
+ * A listener registered directly on the {@link SharedPreferences} may read a stale value for
+ * the changes which are not written through this class.
  */
 public class DynamicPreferences {
 
@@ -39,6 +53,22 @@ public class DynamicPreferences {
      */
     protected Context mContext;
 
+    /**
+     * Map to hold the resolved shared preferences and their values by the file name.
+     * <p>Default shared preferences will be stored with the {@code null} key.
+     */
+    private final Map<String, PreferencesCache> mCaches = new HashMap<>();
+
+    /**
+     * List of listeners to get the coalesced callback when a batch of changes is applied.
+     */
+    private final List<OnPreferencesChangeListener> mListeners = new ArrayList<>();
+
+    /**
+     * Number of batches being applied currently.
+     */
+    private int mApplyingBatch;
+
     /**
      * Making default constructor private so that it cannot be initialized without a context.
      * <p>Use {@link #initializeInstance(Context)} instead.
@@ -93,6 +123,97 @@ public class DynamicPreferences {
         return mContext;
     }
 
+    /**
+     * Get the cache for the supplied shared preferences.
+     * <p>It will be created only once for a file name and reused afterwards.
+     *
+     * @param preferences The shared preferences name, {@code null} for the default
+     *                    shared preferences.
+     *
+     * @return The cache for the supplied shared preferences.
+     */
+    private synchronized @NonNull PreferencesCache getCache(@Nullable String preferences) {
+        PreferencesCache cache = mCaches.get(preferences);
+
+        if (cache == null) {
+            cache = new PreferencesCache(preferences != null
+                    ? mContext.getSharedPreferences(preferences, Context.MODE_PRIVATE)
+                    : PreferenceManager.getDefaultSharedPreferences(mContext));
+            mCaches.put(preferences, cache);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Get the shared preferences resolved once for the supplied file name.
+     *
+     * @param preferences The shared preferences name, {@code null} for the default
+     *                    shared preferences.
+     *
+     * @return The shared preferences for the supplied file name.
+     *
+     * @see Context#getSharedPreferences(String, int)
+     * @see PreferenceManager#getDefaultSharedPreferences(Context)
+     */
+    public @NonNull SharedPreferences getSharedPreferences(@Nullable String preferences) {
+        return getCache(preferences).getSharedPreferences();
+    }
+
+    /**
+     * Register a listener to be notified when a key is changed in the supplied preferences.
+     * <p>It will be notified after invalidating the cached value, so it will always read the
+     * new value via this class.
+     *
+     * <p><p>Listener will be held strongly, so it must be unregistered when not required.
+     *
+     * @param preferences The shared preferences name, {@code null} for the default
+     *                    shared preferences.
+     * @param listener The listener to be registered.
+     *
+     * @see #unregisterOnSharedPreferenceChangeListener(String,
+     *      SharedPreferences.OnSharedPreferenceChangeListener)
+     */
+    public void registerOnSharedPreferenceChangeListener(@Nullable String preferences,
+            @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
+        getCache(preferences).addListener(listener);
+    }
+
+    /**
+     * Register a listener to be notified when a key is changed in the default preferences.
+     *
+     * @param listener The listener to be registered.
+     *
+     * @see #registerOnSharedPreferenceChangeListener(String,
+     *      SharedPreferences.OnSharedPreferenceChangeListener)
+     */
+    public void registerOnSharedPreferenceChangeListener(
+            @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
+        registerOnSharedPreferenceChangeListener(null, listener);
+    }
+
+    /**
+     * Unregister a listener registered for the supplied preferences.
+     *
+     * @param preferences The shared preferences name, {@code null} for the default
+     *                    shared preferences.
+     * @param listener The listener to be unregistered.
+     */
+    public void unregisterOnSharedPreferenceChangeListener(@Nullable String preferences,
+            @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
+        getCache(preferences).removeListener(listener);
+    }
+
+    /**
+     * Unregister a listener registered for the default preferences.
+     *
+     * @param listener The listener to be unregistered.
+     */
+    public void unregisterOnSharedPreferenceChangeListener(
+            @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
+        unregisterOnSharedPreferenceChangeListener(null, listener);
+    }
+
     /**
      * Set a boolean value in the supplied preferences editor and call
      * {@link SharedPreferences.Editor#apply()} to apply changes back from this editor.
@@ -104,8 +225,8 @@ public class DynamicPreferences {
      * @see Context#getSharedPreferences(String, int)
      */
     public void savePrefs(@NonNull String preferences, @NonNull String key, boolean value) {
-        mContext.getSharedPreferences(preferences, Context.MODE_PRIVATE)
-                .edit().putBoolean(key, value).apply();
+        getCache(preferences).put(key, value);
+        getSharedPreferences(preferences).edit().putBoolean(key, value).apply();
     }
 
     /**
@@ -118,8 +239,8 @@ public class DynamicPreferences {
      * @see PreferenceManager#getDefaultSharedPreferences(Context)
      */
     public void savePrefs(@NonNull String key, boolean value) {
-        PreferenceManager.getDefaultSharedPreferences(mContext)
-                .edit().putBoolean(key, value).apply();
+        getCache(null).put(key, value);
+        getSharedPreferences(null).edit().putBoolean(key, value).apply();
     }
 
     /**
@@ -133,8 +254,8 @@ public class DynamicPreferences {
      * @see Context#getSharedPreferences(String, int)
      */
     public void savePrefs(@NonNull String preferences, @NonNull String key, int value) {
-        mContext.getSharedPreferences(preferences, Context.MODE_PRIVATE)
-                .edit().putInt(key, value).apply();
+        getCache(preferences).put(key, value);
+        getSharedPreferences(preferences).edit().putInt(key, value).apply();
     }
 
     /**
@@ -147,8 +268,8 @@ public class DynamicPreferences {
      * @see PreferenceManager#getDefaultSharedPreferences(Context)
      */
     public void savePrefs(@NonNull String key, int value) {
-        PreferenceManager.getDefaultSharedPreferences(mContext)
-                .edit().putInt(key, value).apply();
+        getCache(null).put(key, value);
+        getSharedPreferences(null).edit().putInt(key, value).apply();
     }
 
     /**
@@ -162,8 +283,8 @@ public class DynamicPreferences {
      * @see Context#getSharedPreferences(String, int)
      */
     public void savePrefs(@NonNull String preferences, @NonNull String key, float value) {
-        mContext.getSharedPreferences(preferences, Context.MODE_PRIVATE)
-                .edit().putFloat(key, value).apply();
+        getCache(preferences).put(key, value);
+        getSharedPreferences(preferences).edit().putFloat(key, value).apply();
     }
     
     /**
@@ -176,8 +297,8 @@ public class DynamicPreferences {
      * @see PreferenceManager#getDefaultSharedPreferences(Context)
      */
     public void savePrefs(@NonNull String key, float value) {
-        PreferenceManager.getDefaultSharedPreferences(mContext)
-                .edit().putFloat(key, value).apply();
+        getCache(null).put(key, value);
+        getSharedPreferences(null).edit().putFloat(key, value).apply();
     }
 
     /**
@@ -192,8 +313,8 @@ public class DynamicPreferences {
      */
     public void savePrefs(@NonNull String preferences,
             @NonNull String key, @Nullable String value) {
-        mContext.getSharedPreferences(preferences, Context.MODE_PRIVATE)
-                .edit().putString(key, value).apply();
+        getCache(preferences).put(key, value);
+        getSharedPreferences(preferences).edit().putString(key, value).apply();
     }
 
     /**
@@ -206,8 +327,8 @@ public class DynamicPreferences {
      * @see PreferenceManager#getDefaultSharedPreferences(Context)
      */
     public void savePrefs(@NonNull String key, @Nullable String value) {
-        PreferenceManager.getDefaultSharedPreferences(mContext)
-                .edit().putString(key, value).apply();
+        getCache(null).put(key, value);
+        getSharedPreferences(null).edit().putString(key, value).apply();
     }
 
     /**
@@ -224,8 +345,7 @@ public class DynamicPreferences {
      * @see Context#getSharedPreferences(String, int)
      */
     public boolean loadPrefs(@NonNull String preferences, @NonNull String key, boolean value) {
-        return mContext.getSharedPreferences(preferences,
-                Context.MODE_PRIVATE).getBoolean(key, value);
+        return getCache(preferences).getBoolean(key, value);
     }
 
     /**
@@ -241,7 +361,7 @@ public class DynamicPreferences {
      * @see PreferenceManager#getDefaultSharedPreferences(Context)
      */
     public boolean loadPrefs(@NonNull String key, boolean value) {
-        return PreferenceManager.getDefaultSharedPreferences(mContext).getBoolean(key, value);
+        return getCache(null).getBoolean(key, value);
     }
 
     /**
@@ -258,8 +378,7 @@ public class DynamicPreferences {
      * @see Context#getSharedPreferences(String, int)
      */
     public int loadPrefs(@NonNull String preferences, @NonNull String key, int value) {
-        return mContext.getSharedPreferences(preferences,
-                Context.MODE_PRIVATE).getInt(key, value);
+        return getCache(preferences).getInt(key, value);
     }
 
     /**
@@ -275,7 +394,7 @@ public class DynamicPreferences {
      * @see PreferenceManager#getDefaultSharedPreferences(Context)
      */
     public int loadPrefs(@NonNull String key, int value) {
-        return PreferenceManager.getDefaultSharedPreferences(mContext).getInt(key, value);
+        return getCache(null).getInt(key, value);
     }
 
     /**
@@ -292,8 +411,7 @@ public class DynamicPreferences {
      * @see Context#getSharedPreferences(String, int)
      */
     public float loadPrefs(@NonNull String preferences, @NonNull String key, float value) {
-        return mContext.getSharedPreferences(preferences,
-                Context.MODE_PRIVATE).getFloat(key, value);
+        return getCache(preferences).getFloat(key, value);
     }
 
     /**
@@ -309,7 +427,7 @@ public class DynamicPreferences {
      * @see PreferenceManager#getDefaultSharedPreferences(Context)
      */
     public float loadPrefs(@NonNull String key, float value) {
-        return PreferenceManager.getDefaultSharedPreferences(mContext).getFloat(key, value);
+        return getCache(null).getFloat(key, value);
     }
 
     /**
@@ -327,8 +445,7 @@ public class DynamicPreferences {
      */
     public @Nullable String loadPrefs(@NonNull String preferences,
             @NonNull String key, @Nullable String value) {
-        return mContext.getSharedPreferences(preferences,
-                Context.MODE_PRIVATE).getString(key, value);
+        return getCache(preferences).getString(key, value);
     }
 
     /**
@@ -344,7 +461,7 @@ public class DynamicPreferences {
      * @see PreferenceManager#getDefaultSharedPreferences(Context)
      */
     public @Nullable String loadPrefs(@NonNull String key, @Nullable String value) {
-        return PreferenceManager.getDefaultSharedPreferences(mContext).getString(key, value);
+        return getCache(null).getString(key, value);
     }
 
     /**
@@ -367,8 +484,8 @@ public class DynamicPreferences {
      * @see Context#getSharedPreferences(String, int)
      */
     public void deletePrefs(@NonNull String preferences, @NonNull String key) {
-        mContext.getSharedPreferences(preferences,
-                Context.MODE_PRIVATE).edit().remove(key).apply();
+        getCache(preferences).put(key, null);
+        getSharedPreferences(preferences).edit().remove(key).apply();
     }
 
     /**
@@ -379,7 +496,8 @@ public class DynamicPreferences {
      * @see PreferenceManager#getDefaultSharedPreferences(Context)
      */
     public void deletePrefs(@NonNull String key) {
-        PreferenceManager.getDefaultSharedPreferences(mContext).edit().remove(key).apply();
+        getCache(null).put(key, null);
+        getSharedPreferences(null).edit().remove(key).apply();
     }
 
     /**
@@ -388,6 +506,435 @@ public class DynamicPreferences {
      * @param preferences The preferences to be deleted.
      */
     public void deleteSharedPreferences(@NonNull String preferences) {
-        mContext.getSharedPreferences(preferences, Context.MODE_PRIVATE).edit().clear().apply();
+        getSharedPreferences(preferences).edit().clear().apply();
+        getCache(preferences).invalidate(null);
+    }
+
+    /**
+     * Create a batch editor for the supplied preferences to modify several keys at once.
+     * <p>All the changes will be written with a single {@link SharedPreferences.Editor#apply()}
+     * and the {@link OnPreferencesChangeListener} will be notified only once.
+     *
+     * @param preferences The preferences name to modify the keys, {@code null} for the
+     *                    default shared preferences.
+     *
+     * @return The batch editor for the supplied preferences.
+     *
+     * @see #addOnPreferencesChangeListener(OnPreferencesChangeListener)
+     */
+    public @NonNull Editor edit(@Nullable String preferences) {
+        return new Editor(preferences);
+    }
+
+    /**
+     * Create a batch editor for the default preferences to modify several keys at once.
+     *
+     * @return The batch editor for the default preferences.
+     *
+     * @see #edit(String)
+     */
+    public @NonNull Editor edit() {
+        return edit(null);
+    }
+
+    /**
+     * Add a listener to get the coalesced callback when a batch of changes is applied.
+     *
+     * @param listener The listener to be added.
+     */
+    public void addOnPreferencesChangeListener(@NonNull OnPreferencesChangeListener listener) {
+        synchronized (mListeners) {
+            if (!mListeners.contains(listener)) {
+                mListeners.add(listener);
+            }
+        }
+    }
+
+    /**
+     * Remove a listener added to get the coalesced callback.
+     *
+     * @param listener The listener to be removed.
+     */
+    public void removeOnPreferencesChangeListener(
+            @NonNull OnPreferencesChangeListener listener) {
+        synchronized (mListeners) {
+            mListeners.remove(listener);
+        }
+    }
+
+    /**
+     * Checks whether a batch of changes is being applied.
+     * <p>It can be used by a {@link SharedPreferences.OnSharedPreferenceChangeListener} to
+     * skip the per key callbacks and wait for the coalesced one.
+     *
+     * <p><p>The per key callbacks are dispatched synchronously only if the batch is applied
+     * on the main thread.
+     *
+     * @return {@code true} if a batch of changes is being applied.
+     */
+    public boolean isApplyingBatch() {
+        return mApplyingBatch > 0;
+    }
+
+    /**
+     * Notify the listeners that a batch of changes has been applied.
+     *
+     * @param preferences The preferences name, {@code null} for the default
+     *                    shared preferences.
+     * @param keys The keys which have been modified.
+     */
+    private void notifyPreferencesChanged(@Nullable String preferences,
+            @NonNull Set<String> keys) {
+        OnPreferencesChangeListener[] listeners;
+        synchronized (mListeners) {
+            listeners = mListeners.toArray(new OnPreferencesChangeListener[0]);
+        }
+
+        for (OnPreferencesChangeListener listener : listeners) {
+            listener.onPreferencesChanged(preferences, keys);
+        }
+    }
+
+    /**
+     * Interface to get the coalesced callback when a batch of changes is applied.
+     */
+    public interface OnPreferencesChangeListener {
+
+        /**
+         * This method will be called after applying a batch of changes.
+         *
+         * @param preferences The preferences name, {@code null} for the default
+         *                    shared preferences.
+         * @param keys The keys which have been modified.
+         */
+        void onPreferencesChanged(@Nullable String preferences, @NonNull Set<String> keys);
+    }
+
+    /**
+     * A batch editor to collect the typed values and removals for a shared preferences and
+     * apply them with a single commit.
+     */
+    public class Editor {
+
+        /**
+         * The preferences name, {@code null} for the default shared preferences.
+         */
+        private final String mPreferences;
+
+        /**
+         * Map to hold the pending values by their key, {@code null} if a key will be removed.
+         */
+        private final Map<String, Object> mValues = new LinkedHashMap<>();
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param preferences The preferences name, {@code null} for the default
+         *                    shared preferences.
+         */
+        Editor(@Nullable String preferences) {
+            this.mPreferences = preferences;
+        }
+
+        /**
+         * Set a boolean value to be applied later.
+         *
+         * @param key The preference key to modify.
+         * @param value The value for the preference.
+         *
+         * @return The {@link Editor} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Editor putBoolean(@NonNull String key, boolean value) {
+            mValues.put(key, value);
+            return this;
+        }
+
+        /**
+         * Set an integer value to be applied later.
+         *
+         * @param key The preference key to modify.
+         * @param value The value for the preference.
+         *
+         * @return The {@link Editor} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Editor putInt(@NonNull String key, int value) {
+            mValues.put(key, value);
+            return this;
+        }
+
+        /**
+         * Set a float value to be applied later.
+         *
+         * @param key The preference key to modify.
+         * @param value The value for the preference.
+         *
+         * @return The {@link Editor} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Editor putFloat(@NonNull String key, float value) {
+            mValues.put(key, value);
+            return this;
+        }
+
+        /**
+         * Set a string value to be applied later.
+         *
+         * @param key The preference key to modify.
+         * @param value The value for the preference, {@code null} to remove the key.
+         *
+         * @return The {@link Editor} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Editor putString(@NonNull String key, @Nullable String value) {
+            mValues.put(key, value);
+            return this;
+        }
+
+        /**
+         * Remove a key to be applied later.
+         *
+         * @param key The preference key to remove.
+         *
+         * @return The {@link Editor} object to allow for chaining of calls to set methods.
+         */
+        public @NonNull Editor remove(@NonNull String key) {
+            mValues.put(key, null);
+            return this;
+        }
+
+        /**
+         * Apply all the pending changes with a single {@link SharedPreferences.Editor#apply()}
+         * and notify the {@link OnPreferencesChangeListener} once.
+         */
+        public void apply() {
+            if (mValues.isEmpty()) {
+                return;
+            }
+
+            PreferencesCache cache = getCache(mPreferences);
+            SharedPreferences.Editor editor = cache.getSharedPreferences().edit();
+            for (Map.Entry<String, Object> entry : mValues.entrySet()) {
+                String key = entry.getKey();
+                Object value = entry.getValue();
+
+                if (value instanceof Boolean) {
+                    editor.putBoolean(key, (Boolean) value);
+                } else if (value instanceof Integer) {
+                    editor.putInt(key, (Integer) value);
+                } else if (value instanceof Float) {
+                    editor.putFloat(key, (Float) value);
+                } else if (value instanceof String) {
+                    editor.putString(key, (String) value);
+                } else {
+                    editor.remove(key);
+                }
+
+                cache.put(key, value);
+            }
+
+            Set<String> keys = Collections.unmodifiableSet(
+                    new LinkedHashSet<>(mValues.keySet()));
+            mValues.clear();
+
+            mApplyingBatch++;
+            try {
+                editor.apply();
+            } finally {
+                mApplyingBatch--;
+            }
+
+            notifyPreferencesChanged(mPreferences, keys);
+        }
+    }
+
+    /**
+     * An in-memory read-through cache of the typed values for a shared preferences.
+     * <p>Values will be invalidated whenever a key is changed in the shared preferences and
+     * then the change will be dispatched to the registered listeners.
+     */
+    private static class PreferencesCache
+            implements SharedPreferences.OnSharedPreferenceChangeListener {
+
+        /**
+         * Constant to cache a key which does not exist in the shared preferences.
+         */
+        private static final Object ADS_VALUE_NONE = new Object();
+
+        /**
+         * The shared preferences used by this cache.
+         */
+        private final SharedPreferences mSharedPreferences;
+
+        /**
+         * Map to hold the values by their key.
+         */
+        private final Map<String, Object> mValues = new HashMap<>();
+
+        /**
+         * List of listeners to be notified after invalidating a value.
+         */
+        private final List<SharedPreferences.OnSharedPreferenceChangeListener> mListeners =
+                new ArrayList<>();
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param sharedPreferences The shared preferences used by this cache.
+         */
+        PreferencesCache(@NonNull SharedPreferences sharedPreferences) {
+            this.mSharedPreferences = sharedPreferences;
+
+            mSharedPreferences.registerOnSharedPreferenceChangeListener(this);
+        }
+
+        @Override
+        public void onSharedPreferenceChanged(
+                @Nullable SharedPreferences sharedPreferences, @Nullable String key) {
+            invalidate(key);
+
+            SharedPreferences.OnSharedPreferenceChangeListener[] listeners;
+            synchronized (mListeners) {
+                listeners = mListeners.toArray(
+                        new SharedPreferences.OnSharedPreferenceChangeListener[0]);
+            }
+
+            for (SharedPreferences.OnSharedPreferenceChangeListener listener : listeners) {
+                listener.onSharedPreferenceChanged(sharedPreferences, key);
+            }
+        }
+
+        /**
+         * Add a listener to be notified after invalidating a value.
+         *
+         * @param listener The listener to be added.
+         */
+        void addListener(@NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
+            synchronized (mListeners) {
+                if (!mListeners.contains(listener)) {
+                    mListeners.add(listener);
+                }
+            }
+        }
+
+        /**
+         * Remove a listener added to be notified after invalidating a value.
+         *
+         * @param listener The listener to be removed.
+         */
+        void removeListener(
+                @NonNull SharedPreferences.OnSharedPreferenceChangeListener listener) {
+            synchronized (mListeners) {
+                mListeners.remove(listener);
+            }
+        }
+
+        /**
+         * Get the shared preferences used by this cache.
+         *
+         * @return The shared preferences used by this cache.
+         */
+        @NonNull SharedPreferences getSharedPreferences() {
+            return mSharedPreferences;
+        }
+
+        /**
+         * Put a value in this cache before writing it to the shared preferences.
+         * <p>It must be called before applying the change, so that the listeners notified
+         * synchronously by {@link SharedPreferences.Editor#apply()} never read a stale value.
+         *
+         * @param key The preference key to be cached.
+         * @param value The value of the preference, {@code null} if it has been removed.
+         */
+        synchronized void put(@NonNull String key, @Nullable Object value) {
+            mValues.put(key, value != null ? value : ADS_VALUE_NONE);
+        }
+
+        /**
+         * Invalidate a value in this cache.
+         *
+         * @param key The preference key to be invalidated, {@code null} to invalidate
+         *            all the values.
+         */
+        synchronized void invalidate(@Nullable String key) {
+            if (key != null) {
+                mValues.remove(key);
+            } else {
+                mValues.clear();
+            }
+        }
+
+        /**
+         * Retrieve a boolean value from this cache or the shared preferences.
+         *
+         * @param key The preference key to retrieve.
+         * @param value Value to return if this preference does not exist.
+         *
+         * @return Returns the preference value if it exists, or the default value.
+         */
+        synchronized boolean getBoolean(@NonNull String key, boolean value) {
+            Object cached = mValues.get(key);
+            if (cached == null) {
+                cached = mSharedPreferences.contains(key)
+                        ? mSharedPreferences.getBoolean(key, value) : ADS_VALUE_NONE;
+                mValues.put(key, cached);
+            }
+
+            return cached != ADS_VALUE_NONE ? (Boolean) cached : value;
+        }
+
+        /**
+         * Retrieve an integer value from this cache or the shared preferences.
+         *
+         * @param key The preference key to retrieve.
+         * @param value Value to return if this preference does not exist.
+         *
+         * @return Returns the preference value if it exists, or the default value.
+         */
+        synchronized int getInt(@NonNull String key, int value) {
+            Object cached = mValues.get(key);
+            if (cached == null) {
+                cached = mSharedPreferences.contains(key)
+                        ? mSharedPreferences.getInt(key, value) : ADS_VALUE_NONE;
+                mValues.put(key, cached);
+            }
+
+            return cached != ADS_VALUE_NONE ? (Integer) cached : value;
+        }
+
+        /**
+         * Retrieve a float value from this cache or the shared preferences.
+         *
+         * @param key The preference key to retrieve.
+         * @param value Value to return if this preference does not exist.
+         *
+         * @return Returns the preference value if it exists, or the default value.
+         */
+        synchronized float getFloat(@NonNull String key, float value) {
+            Object cached = mValues.get(key);
+            if (cached == null) {
+                cached = mSharedPreferences.contains(key)
+                        ? mSharedPreferences.getFloat(key, value) : ADS_VALUE_NONE;
+                mValues.put(key, cached);
+            }
+
+            return cached != ADS_VALUE_NONE ? (Float) cached : value;
+        }
+
+        /**
+         * Retrieve a string value from this cache or the shared preferences.
+         *
+         * @param key The preference key to retrieve.
+         * @param value Value to return if this preference does not exist.
+         *
+         * @return Returns the preference value if it exists, or the default value.
+         */
+        synchronized @Nullable String getString(@NonNull String key, @Nullable String value) {
+            Object cached = mValues.get(key);
+            if (cached == null) {
+                cached = mSharedPreferences.contains(key)
+                        ? mSharedPreferences.getString(key, value) : ADS_VALUE_NONE;
+                mValues.put(key, cached != null ? cached : ADS_VALUE_NONE);
+            }
+
+            return cached != ADS_VALUE_NONE ? (String) cached : value;
+        }
     }
 }
@@ -30,7 +30,9 @@ import android.widget.RemoteViews;
 
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicAppWidgetUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicBitmapUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
@@ -149,6 +151,32 @@ public abstract class DynamicAppWidgetProvider extends AppWidgetProvider {
      */
     protected abstract @NonNull String getPreferences();
 
+    /**
+     * Returns the theme saved for a widget instance according to the id.
+     *
+     * @param appWidgetId The app widget id to get the theme.
+     *
+     * @return The theme saved for the widget instance, {@code null} if there is no
+     *         valid theme.
+     *
+     * @see DynamicAppWidgetUtils#loadWidgetTheme(String, int)
+     */
+    public @Nullable DynamicWidgetTheme getWidgetTheme(int appWidgetId) {
+        return DynamicAppWidgetUtils.loadWidgetTheme(getPreferences(), appWidgetId);
+    }
+
+    /**
+     * Save the theme for a widget instance according to the id.
+     *
+     * @param appWidgetId The app widget id to save the theme.
+     * @param theme The theme to be saved.
+     *
+     * @see DynamicAppWidgetUtils#saveWidgetTheme(String, int, DynamicWidgetTheme)
+     */
+    public void saveWidgetTheme(int appWidgetId, @NonNull DynamicWidgetTheme theme) {
+        DynamicAppWidgetUtils.saveWidgetTheme(getPreferences(), appWidgetId, theme);
+    }
+
     /**
      * Override this method to update a widget instance according to the id.
      * <p>It will be useful while implementing a configuration activity via
@@ -65,17 +65,17 @@ public class DynamicColorPreference extends DynamicSimplePreference {
     /**
      * Color entries used by this preference.
      */
-    private @ColorInt Integer[] mColors;
+    private @ColorInt int[] mColors;
 
     /**
      * Popup color entries used by this preference.
      */
-    private @ColorInt Integer[] mPopupColors;
+    private @ColorInt int[] mPopupColors;
 
     /**
      * Shade color entries used by this preference.
      */
-    private @ColorInt Integer[][] mShades;
+    private @ColorInt int[][] mShades;
 
     /**
      * Shape for the color view.
@@ -378,7 +378,7 @@ public class DynamicColorPreference extends DynamicSimplePreference {
      *
      * @return The color entries used by this preference.
      */
-    public @NonNull @ColorInt Integer[] getColors() {
+    public @NonNull @ColorInt int[] getColors() {
         if (mColorsResId != DynamicResourceUtils.ADS_DEFAULT_RESOURCE_ID) {
             mColors = DynamicResourceUtils
                     .convertToColorArray(getContext(), mColorsResId);
@@ -396,7 +396,7 @@ public class DynamicColorPreference extends DynamicSimplePreference {
      *
      * @param colors The color entries to be set.
      */
-    public void setColors(@Nullable @ColorInt Integer[] colors) {
+    public void setColors(@Nullable @ColorInt int[] colors) {
         this.mColors = colors;
         this.mColorsResId = DynamicResourceUtils.ADS_DEFAULT_RESOURCE_ID;
     }
@@ -406,7 +406,7 @@ public class DynamicColorPreference extends DynamicSimplePreference {
      *
      * @return The popup color entries used by this preference.
      */
-    public @NonNull @ColorInt Integer[] getPopupColors() {
+    public @NonNull @ColorInt int[] getPopupColors() {
         if (mPopupColorsResId != DynamicResourceUtils.ADS_DEFAULT_RESOURCE_ID) {
             mPopupColors = DynamicResourceUtils
                     .convertToColorArray(getContext(), mPopupColorsResId);
@@ -424,7 +424,7 @@ public class DynamicColorPreference extends DynamicSimplePreference {
      *
      * @param popupColors The popup color entries to be set.
      */
-    public void setPopupColors(@Nullable @ColorInt Integer[] popupColors) {
+    public void setPopupColors(@Nullable @ColorInt int[] popupColors) {
         this.mPopupColors = popupColors;
         this.mPopupColorsResId = DynamicResourceUtils.ADS_DEFAULT_RESOURCE_ID;
     }
@@ -434,7 +434,7 @@ public class DynamicColorPreference extends DynamicSimplePreference {
      *
      * @return The shade color entries used by this preference.
      */
-    public @Nullable @ColorInt Integer[][] getShades() {
+    public @Nullable @ColorInt int[][] getShades() {
         if (mColors == DynamicColorPalette.MATERIAL_COLORS) {
             mShades = DynamicColorPalette.MATERIAL_COLORS_SHADES;
         }
@@ -447,7 +447,7 @@ public class DynamicColorPreference extends DynamicSimplePreference {
      *
      * @param shades The shade color entries to be set.
      */
-    public void setShades(@Nullable @ColorInt Integer[][] shades) {
+    public void setShades(@Nullable @ColorInt int[][] shades) {
         this.mShades = shades;
     }
 
@@ -20,7 +20,6 @@ import android.content.Context;
 import android.content.SharedPreferences;
 import android.content.res.TypedArray;
 import android.graphics.drawable.Drawable;
-import android.preference.PreferenceManager;
 import android.util.AttributeSet;
 import android.view.View;
 import android.widget.AdapterView;
@@ -218,16 +217,14 @@ public abstract class DynamicPreference extends FrameLayout
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
 
-        PreferenceManager.getDefaultSharedPreferences(getContext())
-                .unregisterOnSharedPreferenceChangeListener(this);
+        DynamicPreferenceDispatcher.getInstance().unregister(this);
     }
 
     @Override
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
 
-        PreferenceManager.getDefaultSharedPreferences(getContext())
-                .registerOnSharedPreferenceChangeListener(this);
+        DynamicPreferenceDispatcher.getInstance().register(this);
     }
 
     /**
@@ -456,9 +453,20 @@ public abstract class DynamicPreference extends FrameLayout
     public void setPreferenceKey(@Nullable String preferenceKey) {
         this.mPreferenceKey = preferenceKey;
 
+        DynamicPreferenceDispatcher.getInstance().update(this);
         onUpdate();
     }
 
+    /**
+     * Get the shared preferences key set for this preference without any modification by
+     * the extending preferences.
+     *
+     * @return The shared preferences key set for this preference.
+     */
+    @Nullable String getPreferenceKeyInternal() {
+        return mPreferenceKey;
+    }
+
     /**
      * Get the shared preferences key for alternate preference.
      *
@@ -476,6 +484,7 @@ public abstract class DynamicPreference extends FrameLayout
     public void setAltPreferenceKey(@Nullable String altPreferenceKey) {
         this.mAltPreferenceKey = altPreferenceKey;
 
+        DynamicPreferenceDispatcher.getInstance().update(this);
         onUpdate();
     }
 
@@ -496,6 +505,7 @@ public abstract class DynamicPreference extends FrameLayout
     public void setDependency(@Nullable String dependency) {
         this.mDependency = dependency;
 
+        DynamicPreferenceDispatcher.getInstance().update(this);
         updateDependency();
     }
 
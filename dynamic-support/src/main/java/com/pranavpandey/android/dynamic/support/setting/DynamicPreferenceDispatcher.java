@@ -0,0 +1,220 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.setting;
+
+import android.content.SharedPreferences;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.support.preference.DynamicPreferences;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A single shared preferences listener for all the attached {@link DynamicPreference} views.
+ * <p>It keeps an index of the preference, alternate preference and dependency keys to the
+ * views so that a change is routed only to the interested views.
+ *
+ * <p><p>Views are held through weak references and it must be accessed from the main thread.
+ */
+final class DynamicPreferenceDispatcher
+        implements SharedPreferences.OnSharedPreferenceChangeListener {
+
+    /**
+     * Singleton instance of {@link DynamicPreferenceDispatcher}.
+     */
+    private static DynamicPreferenceDispatcher sInstance;
+
+    /**
+     * Map to hold the registered views by their keys.
+     */
+    private final Map<String, List<WeakReference<DynamicPreference>>> mViews = new HashMap<>();
+
+    /**
+     * Map to hold the keys for each registered view.
+     */
+    private final Map<DynamicPreference, String[]> mKeys = new WeakHashMap<>();
+
+    /**
+     * {@code true} if this dispatcher is listening to the shared preferences.
+     */
+    private boolean mListening;
+
+    /**
+     * Making default constructor private so that it can be accessed only via
+     * {@link #getInstance()}.
+     */
+    private DynamicPreferenceDispatcher() { }
+
+    /**
+     * Get instance to access public methods.
+     *
+     * @return The singleton instance of this class.
+     */
+    static synchronized @NonNull DynamicPreferenceDispatcher getInstance() {
+        if (sInstance == null) {
+            sInstance = new DynamicPreferenceDispatcher();
+        }
+
+        return sInstance;
+    }
+
+    /**
+     * Register a view to receive the changes for its keys.
+     * <p>The previous keys will be replaced if the view is already registered.
+     *
+     * @param preference The preference view to be registered.
+     */
+    void register(@NonNull DynamicPreference preference) {
+        unregister(preference);
+
+        String[] keys = getKeys(preference);
+        mKeys.put(preference, keys);
+
+        for (int i = 0; i < keys.length; i++) {
+            String key = keys[i];
+            if (key == null || indexOf(keys, key) < i) {
+                continue;
+            }
+
+            List<WeakReference<DynamicPreference>> views = mViews.get(key);
+            if (views == null) {
+                views = new ArrayList<>();
+                mViews.put(key, views);
+            }
+
+            views.add(new WeakReference<>(preference));
+        }
+
+        if (!mListening) {
+            mListening = true;
+            DynamicPreferences.getInstance().registerOnSharedPreferenceChangeListener(this);
+        }
+    }
+
+    /**
+     * Update the keys for a view if it is already registered.
+     *
+     * @param preference The preference view to be updated.
+     */
+    void update(@NonNull DynamicPreference preference) {
+        if (mKeys.containsKey(preference)) {
+            register(preference);
+        }
+    }
+
+    /**
+     * Unregister a view to stop receiving the changes.
+     *
+     * @param preference The preference view to be unregistered.
+     */
+    void unregister(@NonNull DynamicPreference preference) {
+        String[] keys = mKeys.remove(preference);
+        if (keys == null) {
+            return;
+        }
+
+        for (String key : keys) {
+            if (key == null) {
+                continue;
+            }
+
+            List<WeakReference<DynamicPreference>> views = mViews.get(key);
+            if (views == null) {
+                continue;
+            }
+
+            for (int i = views.size() - 1; i >= 0; i--) {
+                DynamicPreference view = views.get(i).get();
+                if (view == null || view == preference) {
+                    views.remove(i);
+                }
+            }
+
+            if (views.isEmpty()) {
+                mViews.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Get the keys to be observed for a view.
+     *
+     * @param preference The preference view to get the keys.
+     *
+     * @return The keys to be observed for the supplied view.
+     */
+    private static @NonNull String[] getKeys(@NonNull DynamicPreference preference) {
+        return new String[] { preference.getPreferenceKeyInternal(),
+                preference.getAltPreferenceKey(), preference.getDependency() };
+    }
+
+    /**
+     * Get the first index of a key in the supplied keys.
+     *
+     * @param keys The keys to find the index.
+     * @param key The key to get the index.
+     *
+     * @return The first index of the key, otherwise {@code -1}.
+     */
+    private static int indexOf(@NonNull String[] keys, @NonNull String key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (key.equals(keys[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public void onSharedPreferenceChanged(
+            @Nullable SharedPreferences sharedPreferences, @Nullable String key) {
+        if (key == null) {
+            return;
+        }
+
+        List<WeakReference<DynamicPreference>> views = mViews.get(key);
+        if (views == null) {
+            return;
+        }
+
+        List<DynamicPreference> targets = new ArrayList<>(views.size());
+        for (int i = views.size() - 1; i >= 0; i--) {
+            DynamicPreference view = views.get(i).get();
+            if (view == null) {
+                views.remove(i);
+            } else {
+                targets.add(0, view);
+            }
+        }
+
+        if (views.isEmpty()) {
+            mViews.remove(key);
+        }
+
+        for (DynamicPreference view : targets) {
+            view.onSharedPreferenceChanged(sharedPreferences, key);
+        }
+    }
+}
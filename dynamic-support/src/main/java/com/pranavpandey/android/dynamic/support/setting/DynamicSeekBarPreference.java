@@ -41,6 +41,7 @@ import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.preference.DynamicPreferences;
 import com.pranavpandey.android.dynamic.support.widget.DynamicSeekBar;
 import com.pranavpandey.android.dynamic.support.widget.DynamicTextView;
+import com.pranavpandey.android.dynamic.support.widget.WidgetDefaults;
 
 /**
  * A DynamicSpinnerPreference to provide the functionality of a seek bar preference with
@@ -138,6 +139,11 @@ public class DynamicSeekBarPreference extends DynamicSpinnerPreference {
      */
     private ImageButton mSeekBarRightView;
 
+    /**
+     * Color applied to the seek bar and value view.
+     */
+    private @ColorInt int mColor = WidgetDefaults.ADS_COLOR_UNKNOWN;
+
     /**
      * Seek bar to display and modify the preference value.
      */
@@ -466,14 +472,15 @@ public class DynamicSeekBarPreference extends DynamicSpinnerPreference {
     }
 
     /**
-     * Get the current seek bar progress.
+     * Set the current seek bar progress.
      *
      * @param progress The progress to be set.
+     * @param save {@code true} to update the shared preferences.
      */
-    public void setProgress(int progress) {
+    public void setProgress(int progress, boolean save) {
         this.mProgress = progress;
 
-        if (super.getPreferenceKey() != null) {
+        if (super.getPreferenceKey() != null && save) {
             DynamicPreferences.getInstance().savePrefs(
                     super.getPreferenceKey(), getValueFromProgress());
         } else {
@@ -481,6 +488,15 @@ public class DynamicSeekBarPreference extends DynamicSpinnerPreference {
         }
     }
 
+    /**
+     * Set the current seek bar progress.
+     *
+     * @param progress The progress to be set.
+     */
+    public void setProgress(int progress) {
+        setProgress(progress, true);
+    }
+
     /**
      * Get the seek interval for the seek bar.
      *
@@ -521,13 +537,23 @@ public class DynamicSeekBarPreference extends DynamicSpinnerPreference {
         onUpdate();
     }
 
+    /**
+     * Set the value for this preference.
+     *
+     * @param value The value to be set.
+     * @param save {@code true} to update the shared preferences.
+     */
+    public void setValue(int value, boolean save) {
+        setProgress(getProgressFromValue(value), save);
+    }
+
     /**
      * Set the value for this preference.
      *
      * @param value The value to be set.
      */
     public void setValue(int value) {
-        setProgress(getProgressFromValue(value));
+        setValue(value, true);
     }
 
     /**
@@ -636,12 +662,28 @@ public class DynamicSeekBarPreference extends DynamicSpinnerPreference {
         return mSeekBarView;
     }
 
+    /**
+     * Get the color applied to the seek bar and value view.
+     *
+     * @return The color applied to the seek bar and value view.
+     */
+    public @ColorInt int getColor() {
+        return mColor;
+    }
+
     /**
      * Set the color for seek bar and value view.
+     * <p>It will be ignored if the color is already applied to avoid tinting the views
+     * again while dragging the seek bar.
      *
      * @param color The color to be set.
      */
     public void setColor(@ColorInt int color) {
+        if (mColor == color) {
+            return;
+        }
+
+        this.mColor = color;
         ((DynamicSeekBar) mSeekBar).setColor(color);
         ((DynamicTextView) mSeekBarView).setColor(color);
     }
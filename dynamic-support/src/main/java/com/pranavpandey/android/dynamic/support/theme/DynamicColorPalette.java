@@ -29,8 +29,8 @@ public class DynamicColorPalette {
     /**
      * Default material colors.
      */
-    public static final Integer[] MATERIAL_COLORS =
-        new Integer[] {
+    public static final int[] MATERIAL_COLORS =
+        new int[] {
                 // Red
                 Color.parseColor("#F44336"),
                 // Pink
@@ -78,10 +78,10 @@ public class DynamicColorPalette {
     /**
      * Default material colors shades.
      */
-    public static final Integer[][] MATERIAL_COLORS_SHADES =
-        new Integer[][] {
+    public static final int[][] MATERIAL_COLORS_SHADES =
+        new int[][] {
                 // Red
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#FFEBEE"),
                         Color.parseColor("#FFCDD2"),
                         Color.parseColor("#EF9A9A"),
@@ -98,7 +98,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#D50000")
                 },
                 // Pink
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#FCE4EC"),
                         Color.parseColor("#F8BBD0"),
                         Color.parseColor("#F48FB1"),
@@ -115,7 +115,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#C51162")
                 },
                 // Purple
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#F3E5F5"),
                         Color.parseColor("#E1BEE7"),
                         Color.parseColor("#CE93D8"),
@@ -132,7 +132,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#AA00FF")
                 },
                 // Deep Purple
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#EDE7F6"),
                         Color.parseColor("#D1C4E9"),
                         Color.parseColor("#B39DDB"),
@@ -149,7 +149,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#6200EA")
                 },
                 // Indigo
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#E8EAF6"),
                         Color.parseColor("#C5CAE9"),
                         Color.parseColor("#9FA8DA"),
@@ -166,7 +166,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#304FFE")
                 },
                 // Blue
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#E3F2FD"),
                         Color.parseColor("#BBDEFB"),
                         Color.parseColor("#90CAF9"),
@@ -183,7 +183,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#2962FF")
                 },
                 // Light Blue
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#E1F5FE"),
                         Color.parseColor("#B3E5FC"),
                         Color.parseColor("#81D4FA"),
@@ -200,7 +200,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#0091EA")
                 },
                 // Cyan
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#E0F7FA"),
                         Color.parseColor("#B2EBF2"),
                         Color.parseColor("#80DEEA"),
@@ -217,7 +217,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#00B8D4")
                 },
                 // Teal
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#E0F2F1"),
                         Color.parseColor("#B2DFDB"),
                         Color.parseColor("#80CBC4"),
@@ -234,7 +234,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#00BFA5")
                 },
                 // Green
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#E8F5E9"),
                         Color.parseColor("#C8E6C9"),
                         Color.parseColor("#A5D6A7"),
@@ -251,7 +251,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#00C853")
                 },
                 // Light Green
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#F1F8E9"),
                         Color.parseColor("#DCEDC8"),
                         Color.parseColor("#C5E1A5"),
@@ -268,7 +268,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#64DD17")
                 },
                 // Lime
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#F9FBE7"),
                         Color.parseColor("#F0F4C3"),
                         Color.parseColor("#E6EE9C"),
@@ -285,7 +285,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#AEEA00")
                 },
                 // Yellow
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#FFFDE7"),
                         Color.parseColor("#FFF9C4"),
                         Color.parseColor("#FFF59D"),
@@ -302,7 +302,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#FFD600")
                 },
                 // Amber
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#FFF8E1"),
                         Color.parseColor("#FFECB3"),
                         Color.parseColor("#FFE082"),
@@ -319,7 +319,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#FFAB00")
                 },
                 // Orange
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#FFF3E0"),
                         Color.parseColor("#FFE0B2"),
                         Color.parseColor("#FFCC80"),
@@ -336,7 +336,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#FF6D00")
                 },
                 // Deep Orange
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#FBE9E7"),
                         Color.parseColor("#FFCCBC"),
                         Color.parseColor("#FFAB91"),
@@ -353,7 +353,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#DD2C00")
                 },
                 // Brown
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#EFEBE9"),
                         Color.parseColor("#D7CCC8"),
                         Color.parseColor("#BCAAA4"),
@@ -366,7 +366,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#3E2723")
                 },
                 // Grey
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#FAFAFA"),
                         Color.parseColor("#F5F5F5"),
                         Color.parseColor("#EEEEEE"),
@@ -379,7 +379,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#212121")
                 },
                 // Blue Grey
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#ECEFF1"),
                         Color.parseColor("#CFD8DC"),
                         Color.parseColor("#B0BEC5"),
@@ -392,7 +392,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#263238")
                 },
                 // White
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#FFFFFF"),
                         Color.parseColor("#F5F5F5"),
                         Color.parseColor("#EEEEEE"),
@@ -401,7 +401,7 @@ public class DynamicColorPalette {
                         Color.parseColor("#BDBDBD")
                 },
                 // Black
-                new Integer[] {
+                new int[] {
                         Color.parseColor("#757575"),
                         Color.parseColor("#616161"),
                         Color.parseColor("#424242"),
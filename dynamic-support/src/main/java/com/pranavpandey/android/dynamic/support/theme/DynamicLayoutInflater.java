@@ -20,7 +20,6 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.GradientDrawable;
-import android.os.Handler;
 import android.util.AttributeSet;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -37,6 +36,8 @@ import androidx.cardview.widget.CardView;
 import androidx.core.view.ViewCompat;
 
 import com.pranavpandey.android.dynamic.support.R;
+import com.pranavpandey.android.dynamic.support.listener.DynamicViewConstructor;
+import com.pranavpandey.android.dynamic.support.utils.DynamicBatchUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicScrollUtils;
 import com.pranavpandey.android.dynamic.support.widget.DynamicBottomNavigationView;
@@ -70,11 +71,18 @@ import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
 
 /**
  * A layout inflater factory2 to replace original views with the dynamic support views
  * during inflation.
+ * <p>Custom view constructors registered by using
+ * {@link DynamicTheme#registerViewConstructor(String, DynamicViewConstructor)} will be
+ * used before the default views.
  */
 @RestrictTo(LIBRARY_GROUP)
 final class DynamicLayoutInflater implements LayoutInflater.Factory2 {
@@ -84,215 +92,284 @@ final class DynamicLayoutInflater implements LayoutInflater.Factory2 {
      */
     private static final String ADS_TAG_IGNORE = ":ads_ignore";
 
+    /**
+     * Batch operation to tint the list menu item views.
+     */
+    private static final MenuItemTintOperation ADS_MENU_ITEM_TINT = new MenuItemTintOperation();
+
+    /**
+     * Registry of the custom view constructors mapped to their tag names.
+     * <p>It will be replaced with a new copy whenever a view constructor is registered, so that
+     * it can be read without any synchronization during inflation.
+     */
+    private static volatile Map<String, DynamicViewConstructor> sViewConstructors =
+            Collections.emptyMap();
+
+    /**
+     * Register a view constructor for the supplied tag name.
+     * <p>It should be called at startup before inflating any layout.
+     *
+     * @param name The tag name to be mapped.
+     * @param constructor The view constructor for the tag name.
+     *                    <p>Pass {@code null} to remove the registered mapping.
+     */
+    static synchronized void registerViewConstructor(@NonNull String name,
+            @Nullable DynamicViewConstructor constructor) {
+        Map<String, DynamicViewConstructor> constructors = new HashMap<>(sViewConstructors);
+
+        if (constructor != null) {
+            constructors.put(name, constructor);
+        } else {
+            constructors.remove(name);
+        }
+
+        sViewConstructors = Collections.unmodifiableMap(constructors);
+    }
+
     @Override
     public View onCreateView(String name, @NonNull Context context, @NonNull AttributeSet attrs) {
         return onCreateView(null, name, context, attrs);
     }
 
     @Override
-    @SuppressLint("RestrictedApi")
-    public View onCreateView(@Nullable View parent, final String name,
-            final @NonNull Context context, final @NonNull AttributeSet attrs) {
+    public View onCreateView(@Nullable View parent, String name,
+            @NonNull Context context, @NonNull AttributeSet attrs) {
+        Map<String, DynamicViewConstructor> constructors = sViewConstructors;
         View view = null;
 
+        if (!constructors.isEmpty()) {
+            DynamicViewConstructor constructor = constructors.get(name);
+            if (constructor != null) {
+                view = constructor.onCreateView(parent, name, context, attrs);
+            }
+        }
+
+        if (view == null) {
+            view = createView(name, context, attrs);
+        }
+
+        if (view != null && view.getTag() != null && view.getTag().equals(ADS_TAG_IGNORE)) {
+            view = null;
+        }
+
+        return view;
+    }
+
+    /**
+     * Create a dynamic support view for the supplied tag name.
+     *
+     * @param name The tag name of the view.
+     * @param context The context for the view.
+     * @param attrs The attribute set for the view.
+     *
+     * @return The dynamic support view for the tag name, otherwise {@code null}.
+     */
+    private static @Nullable View createView(@NonNull String name,
+            @NonNull Context context, @NonNull AttributeSet attrs) {
         switch (name) {
             case "android.support.v4.widget.DrawerLayout":
             case "androidx.DrawerLayout.widget.DrawerLayout":
-                view = new DynamicDrawerLayout(context, attrs);
-                break;
+                return new DynamicDrawerLayout(context, attrs);
             case "android.support.v4.widget.SwipeRefreshLayout":
             case "androidx.SwipeRefreshLayout.widget.SwipeRefreshLayout":
-                view = new DynamicSwipeRefreshLayout(context, attrs);
-                break;
+                return new DynamicSwipeRefreshLayout(context, attrs);
             case "Toolbar":
             case "android.support.v7.widget.Toolbar":
             case "androidx.appcompat.widget.Toolbar":
-                view = new DynamicToolbar(context, attrs);
-                break;
+                return new DynamicToolbar(context, attrs);
             case "ListMenuItemView":
             case "android.support.v7.view.menu.ListMenuItemView":
             case "androidx.appcompat.view.menu.ListMenuItemView":
-                try {
-                    final @ColorInt int backgroundColor =
-                            DynamicTheme.getInstance().get().getBackgroundColor();
-
-                    final View menuItemView = LayoutInflater.from(context)
-                            .createView(name, null, attrs);
-
-                    new Handler().post(new Runnable() {
-                        @Override
-                        public void run() {
-                            @ColorInt int tintColor = DynamicTheme
-                                    .getInstance().get().getTintBackgroundColor();
-                            if (DynamicTheme.getInstance().get().isBackgroundAware()) {
-                                tintColor = DynamicColorUtils.getContrastColor(
-                                        tintColor, backgroundColor);
-                            }
-
-                            final Drawable icon = ((ListMenuItemView) menuItemView)
-                                    .getItemData().getIcon();
-                            try {
-                                if (icon != null) {
-                                    ((ListMenuItemView) menuItemView).setIcon(
-                                            DynamicDrawableUtils.colorizeDrawable(icon, tintColor));
-                                }
-
-                                if (menuItemView.getParent() != null) {
-                                    ViewGroup view = (ViewGroup) menuItemView.getParent();
-                                    ViewGroup parent = (ViewGroup) view.getParent();
-
-                                    DynamicScrollUtils.setEdgeEffectColor(
-                                            (ListView) view, tintColor);
-
-                                    if (DynamicVersionUtils.isLollipop()) {
-                                        if (!(parent instanceof CardView)) {
-                                            DynamicCardView cardView =
-                                                    new DynamicPopupBackground(context, attrs);
-
-                                            if (parent.getBackground() instanceof GradientDrawable) {
-                                                GradientDrawable backgroundDrawable =
-                                                        ((GradientDrawable) parent.getBackground());
-                                                backgroundDrawable.setColor(backgroundColor);
-                                                backgroundDrawable.setCornerRadius(DynamicTheme
-                                                        .getInstance().get().getCornerRadius());
-                                            }
-
-                                            parent.removeAllViews();
-                                            parent.addView(cardView);
-                                            cardView.addView(view);
-                                        } else {
-                                            parent.removeAllViews();
-                                            parent.addView(view);
-                                        }
-                                    } else {
-                                        ViewCompat.setBackground(view, DynamicDrawableUtils
-                                                .colorizeDrawable(DynamicResourceUtils.getDrawable(
-                                                        context, R.drawable.ads_background),
-                                                        backgroundColor));
-                                    }
-                                }
-                            } catch (Exception ignored) {
-                            }
-                        }
-                    });
-
-                    view = menuItemView;
-                } catch (Exception ignored) {
-                }
-                break;
+                return createListMenuItemView(name, context, attrs);
             case "Button":
-                view = new Button(context, attrs);
-                ((Button) view).setTextColor(DynamicResourceUtils.getColorStateList(
+                Button button = new Button(context, attrs);
+                button.setTextColor(DynamicResourceUtils.getColorStateList(
                         DynamicTheme.getInstance().get().getTintBackgroundColor()));
-                break;
+                return button;
             case "android.support.v7.widget.AppCompatButton":
             case "androidx.appcompat.widget.AppCompatButton":
             case "com.google.android.material.button.MaterialButton":
-                view = new DynamicButton(context, attrs);
-                break;
+                return new DynamicButton(context, attrs);
             case "ImageButton":
             case "android.support.v7.widget.AppCompatImageButton":
             case "androidx.appcompat.widget.AppCompatImageButton":
-                view = new DynamicImageButton(context, attrs);
-                break;
+                return new DynamicImageButton(context, attrs);
             case "ImageView":
             case "android.support.v7.widget.AppCompatImageView":
             case "androidx.appcompat.widget.AppCompatImageView":
-                view = new DynamicImageView(context, attrs);
-            break;
+                return new DynamicImageView(context, attrs);
             case "TextView":
             case "android.support.v7.widget.AppCompatTextView":
             case "androidx.appcompat.widget.AppCompatTextView":
-                view = new DynamicTextView(context, attrs);
-                break;
+                return new DynamicTextView(context, attrs);
             case "CheckBox":
             case "android.support.v7.widget.AppCompatCheckBox":
             case "androidx.appcompat.widget.AppCompatCheckBox":
-                view = new DynamicCheckBox(context, attrs);
-                break;
+                return new DynamicCheckBox(context, attrs);
             case "RadioButton":
             case "android.support.v7.widget.AppCompatRadioButton":
             case "androidx.appcompat.widget.AppCompatRadioButton":
-                view = new DynamicRadioButton(context, attrs);
-                break;
+                return new DynamicRadioButton(context, attrs);
             case "EditText":
             case "android.support.v7.widget.AppCompatEditText":
             case "androidx.appcompat.widget.AppCompatEditText":
-                view = new DynamicEditText(context, attrs);
-                break;
+                return new DynamicEditText(context, attrs);
             case "android.support.v7.widget.SwitchCompat":
             case "androidx.appcompat.widget.SwitchCompat":
-                view = new DynamicSwitchCompat(context, attrs);
-                break;
+                return new DynamicSwitchCompat(context, attrs);
             case "SeekBar":
             case "android.support.v7.widget.AppCompatSeekBar":
             case "androidx.appcompat.widget.AppCompatSeekBar":
-                view = new DynamicSeekBar(context, attrs);
-                break;
+                return new DynamicSeekBar(context, attrs);
             case "Spinner":
             case "android.support.v7.widget.AppCompatSpinner":
             case "androidx.appcompat.widget.AppCompatSpinner":
-                view = new DynamicSpinner(context, attrs);
-                break;
+                return new DynamicSpinner(context, attrs);
             case "ProgressBar":
             case "android.support.v4.widget.ContentLoadingProgressBar":
             case "androidx.core.widget.ContentLoadingProgressBar":
-                view = new DynamicProgressBar(context, attrs);
-                break;
+                return new DynamicProgressBar(context, attrs);
             case "android.support.v7.widget.RecyclerView":
             case "androidx.recyclerview.widget.RecyclerView":
-                view = new DynamicRecyclerView(context, attrs);
-                break;
+                return new DynamicRecyclerView(context, attrs);
             case "android.support.v4.widget.NestedScrollView":
             case "androidx.core.widget.NestedScrollView":
-                view = new DynamicNestedScrollView(context, attrs);
-                break;
+                return new DynamicNestedScrollView(context, attrs);
             case "android.support.v4.view.ViewPager":
             case "androidx.viewpager.widget.ViewPager":
-                view = new DynamicViewPager(context, attrs);
-                break;
+                return new DynamicViewPager(context, attrs);
             case "android.support.design.widget.NavigationView":
             case "com.google.android.material.navigation.NavigationView":
-                view = new DynamicNavigationView(context, attrs);
-                break;
+                return new DynamicNavigationView(context, attrs);
             case "android.support.design.widget.BottomNavigationView":
             case "com.google.android.material.bottomnavigation.BottomNavigationView":
-                view = new DynamicBottomNavigationView(context, attrs);
-                break;
+                return new DynamicBottomNavigationView(context, attrs);
             case "android.support.design.widget.TabLayout":
             case "com.google.android.material.tabs.TabLayout":
-                view = new DynamicTabLayout(context, attrs);
-                break;
+                return new DynamicTabLayout(context, attrs);
             case "CardView":
             case "android.support.v7.widget.CardView":
             case "androidx.cardview.widget.CardView":
             case "com.google.android.material.card.CardView":
-                view = new DynamicCardView(context, attrs);
-                break;
+                return new DynamicCardView(context, attrs);
             case "android.support.design.widget.TextInputLayout":
             case "com.google.android.material.textfield.TextInputLayout":
-                view = new DynamicTextInputLayout(context, attrs);
-                break;
+                return new DynamicTextInputLayout(context, attrs);
             case "android.support.design.widget.TextInputEditText":
             case "com.google.android.material.textfield.TextInputEditText":
-                view = new DynamicTextInputEditText(context, attrs);
-                break;
+                return new DynamicTextInputEditText(context, attrs);
             case "android.support.design.widget.FloatingActionButton":
             case "com.google.android.material.floatingactionbutton.FloatingActionButton":
-                view = new DynamicFloatingActionButton(context, attrs);
-                break;
+                return new DynamicFloatingActionButton(context, attrs);
             case "ListView":
-                view = new DynamicListView(context, attrs);
-                break;
+                return new DynamicListView(context, attrs);
             case "ScrollView":
-                view = new DynamicScrollView(context, attrs);
-                break;
+                return new DynamicScrollView(context, attrs);
+            default:
+                return null;
         }
+    }
 
-        if (view != null && view.getTag() != null && view.getTag().equals(ADS_TAG_IGNORE)) {
-            view = null;
+    /**
+     * Create a list menu item view and tint it according to the theme in the next batch.
+     *
+     * @param name The tag name of the view.
+     * @param context The context for the view.
+     * @param attrs The attribute set for the view.
+     *
+     * @return The list menu item view.
+     *
+     * @see DynamicBatchUtils
+     */
+    private static @Nullable View createListMenuItemView(@NonNull String name,
+            @NonNull Context context, @NonNull AttributeSet attrs) {
+        try {
+            View menuItemView = LayoutInflater.from(context).createView(name, null, attrs);
+            DynamicBatchUtils.post(menuItemView, ADS_MENU_ITEM_TINT);
+
+            return menuItemView;
+        } catch (Exception ignored) {
         }
 
-        return view;
+        return null;
+    }
+
+    /**
+     * Batch operation to tint the list menu item views and their popup background.
+     * <p>Colors are resolved once for all the menu item views of a batch.
+     */
+    private static final class MenuItemTintOperation
+            implements DynamicBatchUtils.BatchOperation {
+
+        /**
+         * Background color of the popup.
+         */
+        private @ColorInt int mBackgroundColor;
+
+        /**
+         * Tint color for the menu item views.
+         */
+        private @ColorInt int mTintColor;
+
+        @Override
+        public void onPrepare() {
+            mBackgroundColor = DynamicTheme.getInstance().get().getBackgroundColor();
+            mTintColor = DynamicTheme.getInstance().get().getTintBackgroundColor();
+
+            if (DynamicTheme.getInstance().get().isBackgroundAware()) {
+                mTintColor = DynamicColorUtils.getContrastColor(mTintColor, mBackgroundColor);
+            }
+        }
+
+        @SuppressLint("RestrictedApi")
+        @Override
+        public void onApply(@NonNull View view) {
+            ListMenuItemView menuItemView = (ListMenuItemView) view;
+            if (menuItemView.getItemData() == null) {
+                return;
+            }
+
+            Drawable icon = menuItemView.getItemData().getIcon();
+
+            if (icon != null) {
+                menuItemView.setIcon(DynamicDrawableUtils.colorizeDrawable(icon, mTintColor));
+            }
+
+            // The popup may have been dismissed before this operation is applied.
+            if (menuItemView.getParent() instanceof ListView
+                    && menuItemView.getParent().getParent() instanceof ViewGroup) {
+                ListView listView = (ListView) menuItemView.getParent();
+                ViewGroup parent = (ViewGroup) listView.getParent();
+
+                DynamicScrollUtils.setEdgeEffectColor(listView, mTintColor);
+
+                if (DynamicVersionUtils.isLollipop()) {
+                    if (!(parent instanceof CardView)) {
+                        DynamicCardView cardView =
+                                new DynamicPopupBackground(view.getContext());
+
+                        if (parent.getBackground() instanceof GradientDrawable) {
+                            GradientDrawable backgroundDrawable =
+                                    ((GradientDrawable) parent.getBackground());
+                            backgroundDrawable.setColor(mBackgroundColor);
+                            backgroundDrawable.setCornerRadius(DynamicTheme
+                                    .getInstance().get().getCornerRadius());
+                        }
+
+                        parent.removeAllViews();
+                        parent.addView(cardView);
+                        cardView.addView(listView);
+                    } else {
+                        parent.removeAllViews();
+                        parent.addView(listView);
+                    }
+                } else {
+                    ViewCompat.setBackground(listView, DynamicDrawableUtils
+                            .colorizeDrawable(DynamicResourceUtils.getDrawable(
+                                    view.getContext(), R.drawable.ads_background),
+                                    mBackgroundColor));
+                }
+            }
+        }
     }
 }
@@ -19,6 +19,8 @@ package com.pranavpandey.android.dynamic.support.theme;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.Color;
+import android.view.View;
+import android.view.ViewGroup;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
@@ -27,19 +29,26 @@ import androidx.annotation.StyleRes;
 import androidx.core.content.ContextCompat;
 import androidx.core.view.LayoutInflaterCompat;
 
-import com.google.gson.Gson;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.listener.DynamicListener;
+import com.pranavpandey.android.dynamic.support.listener.DynamicViewConstructor;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicThemeSnapshot;
 import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
+import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeCodec;
 import com.pranavpandey.android.dynamic.support.preference.DynamicPreferences;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
+import com.pranavpandey.android.dynamic.support.utils.DynamicThemeUtils;
+import com.pranavpandey.android.dynamic.support.widget.WidgetAttributes;
+import com.pranavpandey.android.dynamic.support.widget.base.BaseWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicUnitUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Helper class to manage theme for the whole application and its activities.
@@ -69,6 +78,16 @@ public class DynamicTheme implements DynamicListener {
      */
     public static final String ADS_PREF_THEME_KEY = "ads_theme_";
 
+    /**
+     * Key for the theme hash preference.
+     */
+    public static final String ADS_PREF_THEME_HASH_KEY = "ads_theme_hash_";
+
+    /**
+     * Constant for the hash if there is no theme.
+     */
+    public static final long ADS_THEME_HASH_NONE = 0;
+
     /**
      * Default shift amount to generate the darker color.
      */
@@ -122,10 +141,50 @@ public class DynamicTheme implements DynamicListener {
      */
     private DynamicWidgetTheme mRemoteTheme;
 
+    /**
+     * Resolved colors of the current theme indexed by the {@link Theme.ColorType}.
+     */
+    private final int[] mPalette = new int[Theme.ColorType.TEXT_SECONDARY_INVERSE + 1];
+
+    /**
+     * Theme used to resolve the current palette.
+     */
+    private DynamicAppTheme mPaletteTheme;
+
+    /**
+     * Default theme used to resolve the current palette.
+     */
+    private DynamicAppTheme mPaletteDefaultTheme;
+
+    /**
+     * Modifications of the theme at the time of resolving the current palette.
+     */
+    private int mPaletteModifications;
+
+    /**
+     * Modifications of the default theme at the time of resolving the current palette.
+     */
+    private int mPaletteDefaultModifications;
+
+    /**
+     * Latest snapshot of the resolved theme.
+     */
+    private DynamicThemeSnapshot mSnapshot;
+
+    /**
+     * Generation of the latest snapshot which will be increased on every theme change.
+     */
+    private long mGeneration;
+
+    /**
+     * Hash of the local themes saved in the shared preferences.
+     */
+    private final Map<String, Long> mLocalThemeHashes = new HashMap<>();
+
     /**
      * Singleton instance of {@link DynamicTheme}.
      */
-    private static DynamicTheme sInstance;
+    private static volatile DynamicTheme sInstance;
 
     /**
      * Application context used by this theme instance.
@@ -177,6 +236,7 @@ public class DynamicTheme implements DynamicListener {
                 ADS_COLOR_PRIMARY_DARK_DEFAULT, ADS_COLOR_ACCENT_DEFAULT,
                 ADS_CORNER_SIZE_DEFAULT, Theme.BackgroundAware.ENABLE);
         this.mLocalTheme = new DynamicAppTheme();
+        invalidatePalette();
 
         if (localContext instanceof Activity && ((Activity) localContext)
                 .getLayoutInflater().getFactory2() == null) {
@@ -203,19 +263,39 @@ public class DynamicTheme implements DynamicListener {
         }
     }
 
+    /**
+     * Register a view constructor to replace the views with the supplied tag name during
+     * inflation.
+     * <p>It should be called at startup before inflating any layout, it will override the
+     * default view constructor for the same tag name. The default view will still be created
+     * if the registered constructor returns {@code null}.
+     *
+     * @param name The tag name of the view, either simple or fully qualified.
+     * @param constructor The view constructor for the tag name.
+     *                    <p>Pass {@code null} to remove the registered mapping.
+     */
+    public static void registerViewConstructor(@NonNull String name,
+            @Nullable DynamicViewConstructor constructor) {
+        DynamicLayoutInflater.registerViewConstructor(name, constructor);
+    }
+
     /**
      * Get instance to access public methods.
      * <p>Must be called before accessing methods.
      *
+     * <p>It does not require any lock as the instance is created only once inside the
+     * {@link #initializeInstance(Context)} method.
+     *
      * @return The singleton instance of this class.
      */
-    public static synchronized DynamicTheme getInstance() {
-        if (sInstance == null) {
+    public static DynamicTheme getInstance() {
+        DynamicTheme instance = sInstance;
+        if (instance == null) {
             throw new IllegalStateException(DynamicTheme.class.getSimpleName() +
                     " is not initialized, call initializeInstance(..) method first.");
         }
 
-        return sInstance;
+        return instance;
     }
 
     /**
@@ -229,6 +309,7 @@ public class DynamicTheme implements DynamicListener {
     public @NonNull DynamicTheme setThemeRes(@StyleRes int theme, boolean initializeRemoteColors) {
         if (theme != DynamicResourceUtils.ADS_DEFAULT_RESOURCE_ID) {
             mContext.getTheme().applyStyle(theme, true);
+            WidgetAttributes.invalidate(mContext.getTheme());
 
             mDefaultApplicationTheme.setThemeRes(theme)
                     .setBackgroundColor(DynamicResourceUtils.resolveColor(
@@ -264,6 +345,7 @@ public class DynamicTheme implements DynamicListener {
                             mDefaultApplicationTheme.getBackgroundAware()));
 
             mApplicationTheme = mDefaultApplicationTheme;
+            invalidatePalette();
 
             if (initializeRemoteColors) {
                 initializeRemoteColors();
@@ -291,6 +373,7 @@ public class DynamicTheme implements DynamicListener {
 
             setThemeRes(dynamicTheme.getThemeRes(), false);
             mApplicationTheme = dynamicTheme;
+            invalidatePalette();
 
             if (initializeRemoteColors) {
                 initializeRemoteColors();
@@ -314,6 +397,7 @@ public class DynamicTheme implements DynamicListener {
 
         if (localTheme != DynamicResourceUtils.ADS_DEFAULT_RESOURCE_ID) {
             mLocalContext.getTheme().applyStyle(localTheme, true);
+            WidgetAttributes.invalidate(mLocalContext.getTheme());
 
             mDefaultLocalTheme.setThemeRes(localTheme)
                     .setBackgroundColor(DynamicResourceUtils.resolveColor(
@@ -349,6 +433,7 @@ public class DynamicTheme implements DynamicListener {
                             mDefaultLocalTheme.getBackgroundAware()));
 
             mLocalTheme = mDefaultLocalTheme;
+            invalidatePalette();
             addDynamicListener(mLocalContext);
         }
 
@@ -371,6 +456,7 @@ public class DynamicTheme implements DynamicListener {
 
             setLocalThemeRes(dynamicLocalTheme.getThemeRes());
             mLocalTheme = dynamicLocalTheme;
+            invalidatePalette();
         }
 
         return this;
@@ -422,22 +508,133 @@ public class DynamicTheme implements DynamicListener {
      * @see Theme.ColorType
      */
     public @ColorInt int resolveColorType(@Theme.ColorType int colorType) {
+        if (colorType <= Theme.ColorType.NONE || colorType >= mPalette.length) {
+            return Theme.ColorType.NONE;
+        }
+
+        if (!isPaletteValid()) {
+            try {
+                resolvePalette();
+            } catch (IllegalArgumentException e) {
+                return resolveColorType(get(), colorType);
+            }
+        }
+
+        return mPalette[colorType];
+    }
+
+    /**
+     * Resolve color from the supplied theme according to the color type.
+     *
+     * @param theme The theme to resolve the color.
+     * @param colorType The color type to be resolved.
+     *
+     * @return The resolved color value.
+     *
+     * @see Theme.ColorType
+     */
+    private @ColorInt int resolveColorType(@NonNull DynamicAppTheme theme,
+            @Theme.ColorType int colorType) {
         switch (colorType) {
             default: return Theme.ColorType.NONE;
-            case Theme.ColorType.PRIMARY: return get().getPrimaryColor();
-            case Theme.ColorType.PRIMARY_DARK: return get().getPrimaryColorDark();
-            case Theme.ColorType.ACCENT: return get().getAccentColor();
-            case Theme.ColorType.ACCENT_DARK: return get().getAccentColorDark();
-            case Theme.ColorType.TINT_PRIMARY: return get().getTintPrimaryColor();
-            case Theme.ColorType.TINT_PRIMARY_DARK: return get().getTintPrimaryColorDark();
-            case Theme.ColorType.TINT_ACCENT: return get().getTintAccentColor();
-            case Theme.ColorType.TINT_ACCENT_DARK: return get().getTintAccentColorDark();
-            case Theme.ColorType.BACKGROUND: return get().getBackgroundColor();
-            case Theme.ColorType.TINT_BACKGROUND: return get().getTintBackgroundColor();
-            case Theme.ColorType.TEXT_PRIMARY: return get().getTextPrimaryColor();
-            case Theme.ColorType.TEXT_SECONDARY: return get().getTextSecondaryColor();
-            case Theme.ColorType.TEXT_PRIMARY_INVERSE: return get().getTextPrimaryColorInverse();
-            case Theme.ColorType.TEXT_SECONDARY_INVERSE: return get().getTextSecondaryColorInverse();
+            case Theme.ColorType.PRIMARY: return theme.getPrimaryColor();
+            case Theme.ColorType.PRIMARY_DARK: return theme.getPrimaryColorDark();
+            case Theme.ColorType.ACCENT: return theme.getAccentColor();
+            case Theme.ColorType.ACCENT_DARK: return theme.getAccentColorDark();
+            case Theme.ColorType.TINT_PRIMARY: return theme.getTintPrimaryColor();
+            case Theme.ColorType.TINT_PRIMARY_DARK: return theme.getTintPrimaryColorDark();
+            case Theme.ColorType.TINT_ACCENT: return theme.getTintAccentColor();
+            case Theme.ColorType.TINT_ACCENT_DARK: return theme.getTintAccentColorDark();
+            case Theme.ColorType.BACKGROUND: return theme.getBackgroundColor();
+            case Theme.ColorType.TINT_BACKGROUND: return theme.getTintBackgroundColor();
+            case Theme.ColorType.TEXT_PRIMARY: return theme.getTextPrimaryColor();
+            case Theme.ColorType.TEXT_SECONDARY: return theme.getTextSecondaryColor();
+            case Theme.ColorType.TEXT_PRIMARY_INVERSE: return theme.getTextPrimaryColorInverse();
+            case Theme.ColorType.TEXT_SECONDARY_INVERSE:
+                return theme.getTextSecondaryColorInverse();
+        }
+    }
+
+    /**
+     * Checks whether the resolved palette is still valid for the current theme.
+     * <p>It will be invalid if the theme or its default theme has been changed or modified.
+     *
+     * @return {@code true} if the resolved palette can be used for the current theme.
+     */
+    private boolean isPaletteValid() {
+        return mPaletteTheme != null && mPaletteTheme == get()
+                && mPaletteModifications == mPaletteTheme.getModifications()
+                && mPaletteDefaultTheme == getDefault()
+                && mPaletteDefaultModifications == mPaletteDefaultTheme.getModifications();
+    }
+
+    /**
+     * Resolve all the colors of the current theme and store them in the palette.
+     */
+    private void resolvePalette() {
+        DynamicAppTheme theme = get();
+        DynamicAppTheme defaultTheme = getDefault();
+
+        mPaletteTheme = null;
+        for (int colorType = 0; colorType < mPalette.length; colorType++) {
+            mPalette[colorType] = resolveColorType(theme, colorType);
+        }
+
+        mPaletteTheme = theme;
+        mPaletteDefaultTheme = defaultTheme;
+        mPaletteModifications = theme.getModifications();
+        mPaletteDefaultModifications = defaultTheme.getModifications();
+    }
+
+    /**
+     * Invalidate the resolved palette so that it will be resolved again on next access.
+     */
+    public void invalidatePalette() {
+        mPaletteTheme = null;
+        mPaletteDefaultTheme = null;
+    }
+
+    /**
+     * Apply the current theme to the supplied view and all its children without recreating
+     * the activity.
+     * <p>It will walk the view hierarchy once and initialize every {@link BaseWidget} with
+     * the colors resolved once for the whole pass.
+     *
+     * @param view The view or view group to apply the theme.
+     *
+     * @see BaseWidget#initialize()
+     */
+    public void applyTo(@Nullable View view) {
+        if (view == null) {
+            return;
+        }
+
+        if (!isPaletteValid()) {
+            try {
+                resolvePalette();
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        applyTheme(view);
+    }
+
+    /**
+     * Initialize the supplied view if it is a dynamic widget and then, its children if it is
+     * a view group.
+     *
+     * @param view The view to apply the theme.
+     */
+    private void applyTheme(@NonNull View view) {
+        if (view instanceof BaseWidget) {
+            ((BaseWidget) view).initialize();
+        }
+
+        if (view instanceof ViewGroup) {
+            ViewGroup viewGroup = (ViewGroup) view;
+            for (int i = 0; i < viewGroup.getChildCount(); i++) {
+                applyTheme(viewGroup.getChildAt(i));
+            }
         }
     }
 
@@ -539,6 +736,9 @@ public class DynamicTheme implements DynamicListener {
         mDefaultLocalTheme = null;
         mLocalTheme = null;
         mRemoteTheme = null;
+        mSnapshot = null;
+        mLocalThemeHashes.clear();
+        invalidatePalette();
         sInstance.mContext = null;
         sInstance.mApplicationTheme = null;
         sInstance.mDefaultApplicationTheme = null;
@@ -565,6 +765,7 @@ public class DynamicTheme implements DynamicListener {
 
         mLocalContext = null;
         mLocalTheme = null;
+        invalidatePalette();
     }
 
     /**
@@ -689,16 +890,124 @@ public class DynamicTheme implements DynamicListener {
         return theme.toString();
     }
 
+    /**
+     * Returns the 64-bit hash of all the themes used by this instance.
+     *
+     * @return The 64-bit hash of all the themes used by this instance.
+     */
+    public long getHash() {
+        long hash = DynamicThemeUtils.ADS_HASH_INITIAL;
+
+        if (mApplicationTheme != null) {
+            hash = DynamicThemeUtils.hash(hash, mApplicationTheme.getHash());
+        }
+        if (mLocalTheme != null) {
+            hash = DynamicThemeUtils.hash(hash, mLocalTheme.getHash());
+        }
+        if (mRemoteTheme != null) {
+            hash = DynamicThemeUtils.hash(hash, mRemoteTheme.getHash());
+        }
+        if (getDefault() != null) {
+            hash = DynamicThemeUtils.hash(hash, getDefault().getHash());
+        }
+
+        return hash;
+    }
+
+    /**
+     * Returns the snapshot of the resolved theme.
+     * <p>A new snapshot with the next generation will be created only if the theme has been
+     * changed since the last snapshot.
+     *
+     * @return The snapshot of the resolved theme.
+     */
+    public @NonNull DynamicThemeSnapshot getSnapshot() {
+        long hash = getHash();
+
+        if (mSnapshot == null || mSnapshot.getHash() != hash) {
+            int[] colors = new int[mPalette.length];
+            for (int colorType = 0; colorType < colors.length; colorType++) {
+                colors[colorType] = resolveColorType(colorType);
+            }
+
+            mSnapshot = new DynamicThemeSnapshot(++mGeneration, hash, colors,
+                    get().getCornerRadius(), get().getBackgroundAware());
+        }
+
+        return mSnapshot;
+    }
+
+    /**
+     * Returns the key to save the supplied context theme in the shared preferences.
+     *
+     * @param context The context to get the key.
+     *
+     * @return The key to save the supplied context theme in the shared preferences.
+     */
+    private @NonNull String getLocalThemeKey(@NonNull Context context) {
+        return ADS_PREF_THEME_KEY + context.getClass().getName();
+    }
+
+    /**
+     * Returns the key to save the supplied context theme hash in the shared preferences.
+     *
+     * @param context The context to get the key.
+     *
+     * @return The key to save the supplied context theme hash in the shared preferences.
+     */
+    private @NonNull String getLocalThemeHashKey(@NonNull Context context) {
+        return ADS_PREF_THEME_HASH_KEY + context.getClass().getName();
+    }
+
     /**
      * Save the local context theme in shared preferences.
+     * <p>It will be skipped if the theme has not been changed since it was last saved.
      */
     public void saveLocalTheme() {
         if (mLocalContext != null) {
-            DynamicPreferences.getInstance().savePrefs(ADS_PREF_THEME,
-                    ADS_PREF_THEME_KEY + mLocalContext.getClass().getName(), toString());
+            String key = getLocalThemeHashKey(mLocalContext);
+            long hash = getSnapshot().getHash();
+
+            if (hash != getLocalThemeHash(mLocalContext)) {
+                mLocalThemeHashes.put(key, hash);
+                DynamicPreferences.getInstance().edit(ADS_PREF_THEME)
+                        .putString(getLocalThemeKey(mLocalContext), toString())
+                        .putString(key, Long.toString(hash))
+                        .apply();
+            }
         }
     }
 
+    /**
+     * Returns the hash of the supplied context theme saved in the shared preferences.
+     *
+     * @param context The context to retrieve the theme hash.
+     *
+     * @return The hash of the supplied context theme saved in the shared preferences.
+     *         <p>{@link #ADS_THEME_HASH_NONE} if there is no valid theme hash.
+     */
+    public long getLocalThemeHash(@NonNull Context context) {
+        String key = getLocalThemeHashKey(context);
+        Long hash = mLocalThemeHashes.get(key);
+
+        if (hash == null) {
+            hash = ADS_THEME_HASH_NONE;
+
+            String theme = DynamicPreferences.getInstance().loadPrefs(
+                    ADS_PREF_THEME, key, null);
+            if (theme != null) {
+                try {
+                    hash = Long.parseLong(theme);
+                } catch (NumberFormatException ignored) {
+                }
+            }
+
+            mLocalThemeHashes.put(key, hash);
+        }
+
+        return hash;
+    }
+
     /**
      * Returns the supplied context theme from the shared preferences.
      *
@@ -708,7 +1017,7 @@ public class DynamicTheme implements DynamicListener {
      */
     public @Nullable String getLocalTheme(@NonNull Context context) {
         return DynamicPreferences.getInstance().loadPrefs(ADS_PREF_THEME,
-                ADS_PREF_THEME_KEY + context.getClass().getName(), null);
+                getLocalThemeKey(context), null);
     }
 
     /**
@@ -718,8 +1027,11 @@ public class DynamicTheme implements DynamicListener {
      */
     public void deleteLocalTheme(@NonNull Context context) {
         try {
-            DynamicPreferences.getInstance().deletePrefs(ADS_PREF_THEME,
-                    ADS_PREF_THEME_KEY + context.getClass().getName());
+            mLocalThemeHashes.remove(getLocalThemeHashKey(context));
+            DynamicPreferences.getInstance().edit(ADS_PREF_THEME)
+                    .remove(getLocalThemeKey(context))
+                    .remove(getLocalThemeHashKey(context))
+                    .apply();
         } catch (Exception ignored) {
         }
     }
@@ -732,6 +1044,6 @@ public class DynamicTheme implements DynamicListener {
      * @return The dynamic app theme from the Json string.
      */
     public @Nullable DynamicAppTheme getTheme(@Nullable String theme) {
-        return new Gson().fromJson(theme, DynamicAppTheme.class);
+        return DynamicThemeCodec.fromJsonString(theme);
     }
 }
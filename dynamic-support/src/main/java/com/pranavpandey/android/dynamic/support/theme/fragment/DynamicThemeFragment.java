@@ -39,6 +39,7 @@ import com.pranavpandey.android.dynamic.support.fragment.DynamicFragment;
 import com.pranavpandey.android.dynamic.support.intent.DynamicIntent;
 import com.pranavpandey.android.dynamic.support.listener.DynamicColorResolver;
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.preference.DynamicPreferences;
 import com.pranavpandey.android.dynamic.support.setting.DynamicColorPreference;
 import com.pranavpandey.android.dynamic.support.setting.DynamicSeekBarPreference;
 import com.pranavpandey.android.dynamic.support.setting.DynamicSpinnerPreference;
@@ -46,6 +47,7 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.theme.dialog.DynamicThemeDialog;
 import com.pranavpandey.android.dynamic.support.theme.view.DynamicThemePreview;
+import com.pranavpandey.android.dynamic.support.utils.DynamicBatchUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicMenuUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicLinkUtils;
@@ -200,6 +202,25 @@ public class DynamicThemeFragment extends DynamicFragment {
      */
     private DynamicSpinnerPreference mBackgroundAwarePreference;
 
+    /**
+     * {@code true} if the theme preview and preferences are waiting to be updated.
+     */
+    private boolean mThemeUpdatePending;
+
+    /**
+     * Operation to update the theme preview and preferences at most once per frame.
+     */
+    private final DynamicBatchUtils.BatchOperation mThemeUpdateOperation =
+            new DynamicBatchUtils.BatchOperation() {
+                @Override
+                public void onPrepare() { }
+
+                @Override
+                public void onApply(@NonNull View view) {
+                    applyThemeUpdate();
+                }
+            };
+
     /**
      * Initialize the new instance of this fragment.
      *
@@ -454,6 +475,8 @@ public class DynamicThemeFragment extends DynamicFragment {
 
     @Override
     public boolean onOptionsItemSelected(@NonNull MenuItem item) {
+        applyThemeUpdate();
+
         int i = item.getItemId();
         if (i == R.id.ads_menu_theme_copy) {
             DynamicLinkUtils.copyToClipboard(getContext(), getString(R.string.ads_theme),
@@ -529,8 +552,7 @@ public class DynamicThemeFragment extends DynamicFragment {
     public void onResume() {
         super.onResume();
 
-        updateThemePreview();
-        updatePreferences();
+        requestThemeUpdate();
     }
 
     /**
@@ -546,34 +568,77 @@ public class DynamicThemeFragment extends DynamicFragment {
 
     /**
      * Update settings according to the supplied theme.
+     * <p>All the preferences will be saved in a single batch so that the theme preview is
+     * updated only once.
      */
     private void loadTheme(@NonNull DynamicAppTheme dynamicAppTheme) {
         if (!mSettingsChanged) {
-            mColorBackgroundPreference.setColor(dynamicAppTheme.getBackgroundColor(false));
-            mColorBackgroundPreference.setAltColor(dynamicAppTheme.getTintBackgroundColor(false));
-            mColorPrimaryPreference.setColor(dynamicAppTheme.getPrimaryColor(false));
-            mColorPrimaryPreference.setAltColor(dynamicAppTheme.getTintPrimaryColor(false));
-            mColorPrimaryDarkPreference.setColor(dynamicAppTheme.getPrimaryColorDark(false));
-            mColorAccentPreference.setColor(dynamicAppTheme.getAccentColor(false));
-            mColorAccentPreference.setAltColor(dynamicAppTheme.getTintAccentColor(false));
-            mTextPrimaryPreference.setColor(dynamicAppTheme.getTextPrimaryColor(false));
-            mTextPrimaryPreference.setAltColor(dynamicAppTheme.getTextPrimaryColorInverse(false));
-            mTextSecondaryPreference.setColor(dynamicAppTheme.getTextSecondaryColor(false));
-            mTextSecondaryPreference.setAltColor(dynamicAppTheme.getTextSecondaryColorInverse(false));
+            DynamicPreferences.Editor editor = DynamicPreferences.getInstance().edit()
+                    .putInt(ADS_PREF_THEME_COLOR_BACKGROUND,
+                            dynamicAppTheme.getBackgroundColor(false))
+                    .putInt(ADS_PREF_THEME_COLOR_TINT_BACKGROUND,
+                            dynamicAppTheme.getTintBackgroundColor(false))
+                    .putInt(ADS_PREF_THEME_COLOR_PRIMARY,
+                            dynamicAppTheme.getPrimaryColor(false))
+                    .putInt(ADS_PREF_THEME_COLOR_TINT_PRIMARY,
+                            dynamicAppTheme.getTintPrimaryColor(false))
+                    .putInt(ADS_PREF_THEME_COLOR_PRIMARY_DARK,
+                            dynamicAppTheme.getPrimaryColorDark(false))
+                    .putInt(ADS_PREF_THEME_COLOR_ACCENT,
+                            dynamicAppTheme.getAccentColor(false))
+                    .putInt(ADS_PREF_THEME_COLOR_TINT_ACCENT,
+                            dynamicAppTheme.getTintAccentColor(false))
+                    .putInt(ADS_PREF_THEME_TEXT_PRIMARY,
+                            dynamicAppTheme.getTextPrimaryColor(false))
+                    .putInt(ADS_PREF_THEME_TEXT_INVERSE_PRIMARY,
+                            dynamicAppTheme.getTextPrimaryColorInverse(false))
+                    .putInt(ADS_PREF_THEME_TEXT_SECONDARY,
+                            dynamicAppTheme.getTextSecondaryColor(false))
+                    .putInt(ADS_PREF_THEME_TEXT_INVERSE_SECONDARY,
+                            dynamicAppTheme.getTextSecondaryColorInverse(false))
+                    .putString(ADS_PREF_THEME_BACKGROUND_AWARE,
+                            String.valueOf(dynamicAppTheme.getBackgroundAware(false)));
 
             if (dynamicAppTheme.getCornerRadius(false) != Theme.AUTO) {
-                mCornerSizePreference.setPreferenceValue(Theme.ToString.CUSTOM);
-                mCornerSizePreference.setValue(dynamicAppTheme.getCornerSizeDp());
+                editor.putString(ADS_PREF_THEME_CORNER_SIZE_ALT, Theme.ToString.CUSTOM)
+                        .putInt(ADS_PREF_THEME_CORNER_SIZE, dynamicAppTheme.getCornerSizeDp());
             } else {
-                mCornerSizePreference.setPreferenceValue(Theme.ToString.AUTO);
+                editor.putString(ADS_PREF_THEME_CORNER_SIZE_ALT, Theme.ToString.AUTO);
             }
 
-            mBackgroundAwarePreference.setPreferenceValue(
-                    String.valueOf(dynamicAppTheme.getBackgroundAware(false)));
+            editor.apply();
+
+            // Update the views directly as they may not be attached to receive the changes.
+            mColorBackgroundPreference.setColor(
+                    dynamicAppTheme.getBackgroundColor(false), false);
+            mColorBackgroundPreference.setAltColor(
+                    dynamicAppTheme.getTintBackgroundColor(false), false);
+            mColorPrimaryPreference.setColor(dynamicAppTheme.getPrimaryColor(false), false);
+            mColorPrimaryPreference.setAltColor(
+                    dynamicAppTheme.getTintPrimaryColor(false), false);
+            mColorPrimaryDarkPreference.setColor(
+                    dynamicAppTheme.getPrimaryColorDark(false), false);
+            mColorAccentPreference.setColor(dynamicAppTheme.getAccentColor(false), false);
+            mColorAccentPreference.setAltColor(
+                    dynamicAppTheme.getTintAccentColor(false), false);
+            mTextPrimaryPreference.setColor(
+                    dynamicAppTheme.getTextPrimaryColor(false), false);
+            mTextPrimaryPreference.setAltColor(
+                    dynamicAppTheme.getTextPrimaryColorInverse(false), false);
+            mTextSecondaryPreference.setColor(
+                    dynamicAppTheme.getTextSecondaryColor(false), false);
+            mTextSecondaryPreference.setAltColor(
+                    dynamicAppTheme.getTextSecondaryColorInverse(false), false);
+
+            if (dynamicAppTheme.getCornerRadius(false) != Theme.AUTO) {
+                mCornerSizePreference.setValue(dynamicAppTheme.getCornerSizeDp(), false);
+            }
+
+            mCornerSizePreference.updateValueString(true);
+            mBackgroundAwarePreference.updateValueString(true);
         }
 
-        updateThemePreview();
-        updatePreferences();
+        requestThemeUpdate();
     }
 
     /**
@@ -609,6 +674,33 @@ public class DynamicThemeFragment extends DynamicFragment {
         mBackgroundAwarePreference.update();
     }
 
+    /**
+     * Request to update the theme preview and preferences on the next frame.
+     * <p>Multiple requests within a frame will be coalesced into a single update.
+     */
+    private void requestThemeUpdate() {
+        if (!mThemeUpdatePending && mThemePreview != null) {
+            mThemeUpdatePending = true;
+            DynamicBatchUtils.post(mThemePreview, mThemeUpdateOperation);
+        }
+    }
+
+    /**
+     * Update the theme preview and preferences immediately if there is a pending request.
+     */
+    private void applyThemeUpdate() {
+        if (!mThemeUpdatePending) {
+            return;
+        }
+
+        mThemeUpdatePending = false;
+
+        if (getView() != null) {
+            updateThemePreview();
+            updatePreferences();
+        }
+    }
+
     /**
      * Update the theme preview.
      */
@@ -637,6 +729,8 @@ public class DynamicThemeFragment extends DynamicFragment {
      * Set the theme and finish this activity.
      */
     public void saveThemeSettings() {
+        applyThemeUpdate();
+
         Intent intent = new Intent();
         intent.putExtra(DynamicIntent.EXTRA_THEME,
                 mThemePreview.getDynamicAppTheme().toJsonString());
@@ -652,6 +746,10 @@ public class DynamicThemeFragment extends DynamicFragment {
 
     @Override
     public void onSharedPreferenceChanged(SharedPreferences sharedPreferences, String key) {
+        if (DynamicPreferences.getInstance().isApplyingBatch()) {
+            return;
+        }
+
         switch (key) {
             case ADS_PREF_THEME_COLOR_BACKGROUND:
             case ADS_PREF_THEME_COLOR_TINT_BACKGROUND:
@@ -667,8 +765,7 @@ public class DynamicThemeFragment extends DynamicFragment {
             case ADS_PREF_THEME_CORNER_SIZE:
             case ADS_PREF_THEME_CORNER_SIZE_ALT:
             case ADS_PREF_THEME_BACKGROUND_AWARE:
-                updateThemePreview();
-                updatePreferences();
+                requestThemeUpdate();
                 break;
         }
     }
@@ -21,13 +21,13 @@ import android.graphics.RadialGradient;
 import android.graphics.Shader;
 import android.graphics.drawable.ShapeDrawable;
 import android.graphics.drawable.shapes.RectShape;
-import android.os.Handler;
 import android.util.AttributeSet;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 
 import androidx.annotation.AttrRes;
+import androidx.annotation.ColorInt;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -38,6 +38,7 @@ import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.widget.DynamicCardView;
 import com.pranavpandey.android.dynamic.support.widget.DynamicFloatingActionButton;
 import com.pranavpandey.android.dynamic.support.widget.DynamicImageView;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
 
@@ -106,11 +107,46 @@ public class DynamicThemePreview extends ThemePreview {
      */
     private DynamicFloatingActionButton mFAB;
 
+    /**
+     * Widgets to be updated in a batch whenever the theme is changed.
+     */
+    private DynamicUpdateWidget[] mUpdateWidgets;
+
     /**
      * On click listener to receive FAB click events.
      */
     private View.OnClickListener mOnFABClickListener;
 
+    /**
+     * Shape drawable to draw the gradient behind the content.
+     */
+    private ShapeDrawable mContentShape;
+
+    /**
+     * Width used to build the current content gradient.
+     */
+    private int mGradientWidth;
+
+    /**
+     * Height used to build the current content gradient.
+     */
+    private int mGradientHeight;
+
+    /**
+     * Radius used to build the current content gradient.
+     */
+    private int mGradientRadius;
+
+    /**
+     * Tint background color used to build the current content gradient.
+     */
+    private @ColorInt int mGradientTintColor;
+
+    /**
+     * Background color used to build the current content gradient.
+     */
+    private @ColorInt int mGradientColor;
+
     public DynamicThemePreview(@NonNull Context context) {
         this(context, null);
     }
@@ -150,37 +186,23 @@ public class DynamicThemePreview extends ThemePreview {
         mTextSecondary = findViewById(R.id.ads_theme_text_secondary);
         mTextTintBackground = findViewById(R.id.ads_theme_text_tint_background);
         mFAB = findViewById(R.id.ads_theme_fab);
+
+        mUpdateWidgets = new DynamicUpdateWidget[] { mBackgroundCard, mHeaderIcon, mHeaderTitle,
+                mHeaderMenu, mIcon, mTextPrimary, mTextSecondary, mTextTintBackground, mFAB };
     }
 
     @Override
     protected void onUpdate() {
+        for (DynamicUpdateWidget widget : mUpdateWidgets) {
+            widget.beginUpdate();
+        }
+
         mStatusBar.setBackgroundColor(getDynamicAppTheme().getPrimaryColorDark());
         mBackgroundCard.setRadius(getDynamicAppTheme().getCornerRadius());
         mHeader.setBackgroundColor(getDynamicAppTheme().getPrimaryColor());
         mBackgroundCard.setColor(getDynamicAppTheme().getBackgroundColor());
 
-        new Handler().post(new Runnable() {
-            @Override
-            public void run() {
-                if (getDynamicAppTheme().getBackgroundColor(false) == Theme.AUTO
-                        && getMeasuredWidth() > 0 && getMeasuredHeight() > 0) {
-
-                    RadialGradient gradient =
-                            new RadialGradient(mContent.getMeasuredWidth() / 2f,
-                                    mContent.getMeasuredHeight() / 2f,
-                                    getMeasuredWidth() / 2f,
-                                    new int[] { DynamicTheme.getInstance().generateDarkColor(
-                                            getDynamicAppTheme().getTintBackgroundColor()),
-                                            getDynamicAppTheme().getBackgroundColor() },
-                                    null, Shader.TileMode.CLAMP);
-                    ShapeDrawable shape = new ShapeDrawable(new RectShape());
-                    shape.getPaint().setShader(gradient);
-                    DynamicDrawableUtils.setBackground(mContent, shape);
-                } else {
-                    DynamicDrawableUtils.setBackground(mContent, null);
-                }
-            }
-        });
+        updateContentBackground();
 
         mHeaderIcon.setBackgroundAware(getDynamicAppTheme().getBackgroundAware());
         mHeaderTitle.setBackgroundAware(getDynamicAppTheme().getBackgroundAware());
@@ -209,6 +231,10 @@ public class DynamicThemePreview extends ThemePreview {
         mTextTintBackground.setColor(getDynamicAppTheme().getTintBackgroundColor());
         mFAB.setColor(getDynamicAppTheme().getAccentColor());
 
+        for (DynamicUpdateWidget widget : mUpdateWidgets) {
+            widget.endUpdate();
+        }
+
         if (!DynamicVersionUtils.isLollipop()) {
             DynamicDrawableUtils.setBackground(mStatusBar, DynamicDrawableUtils
                     .getCornerDrawable(Math.max(0f,
@@ -217,6 +243,62 @@ public class DynamicThemePreview extends ThemePreview {
         }
     }
 
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        super.onLayout(changed, left, top, right, bottom);
+
+        updateContentBackground();
+    }
+
+    /**
+     * Update the gradient behind the content according to the current theme and size.
+     * <p>The gradient will be rebuilt only if its size or colors have been changed.
+     */
+    private void updateContentBackground() {
+        if (getDynamicAppTheme().getBackgroundColor(false) != Theme.AUTO
+                || getMeasuredWidth() <= 0 || getMeasuredHeight() <= 0) {
+            if (mContent.getBackground() != null) {
+                DynamicDrawableUtils.setBackground(mContent, null);
+            }
+
+            return;
+        }
+
+        int width = mContent.getMeasuredWidth();
+        int height = mContent.getMeasuredHeight();
+        int radius = getMeasuredWidth();
+        @ColorInt int tintColor = getDynamicAppTheme().getTintBackgroundColor();
+        @ColorInt int color = getDynamicAppTheme().getBackgroundColor();
+
+        if (mContentShape == null) {
+            mContentShape = new ShapeDrawable(new RectShape());
+        } else if (width == mGradientWidth && height == mGradientHeight
+                && radius == mGradientRadius && tintColor == mGradientTintColor
+                && color == mGradientColor) {
+            if (mContent.getBackground() != mContentShape) {
+                DynamicDrawableUtils.setBackground(mContent, mContentShape);
+            }
+
+            return;
+        }
+
+        mGradientWidth = width;
+        mGradientHeight = height;
+        mGradientRadius = radius;
+        mGradientTintColor = tintColor;
+        mGradientColor = color;
+
+        mContentShape.getPaint().setShader(new RadialGradient(width / 2f, height / 2f,
+                radius / 2f, new int[] { DynamicTheme.getInstance().generateDarkColor(tintColor),
+                        color }, null, Shader.TileMode.CLAMP));
+
+        if (mContent.getBackground() != mContentShape) {
+            DynamicDrawableUtils.setBackground(mContent, mContentShape);
+        } else {
+            mContentShape.invalidateSelf();
+        }
+    }
+
     @Override
     protected void onEnabled(boolean enabled) {
         super.onEnabled(enabled);
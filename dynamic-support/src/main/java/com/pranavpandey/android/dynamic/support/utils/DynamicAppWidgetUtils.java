@@ -19,6 +19,9 @@ package com.pranavpandey.android.dynamic.support.utils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
+import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
+import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeCodec;
 import com.pranavpandey.android.dynamic.support.preference.DynamicPreferences;
 
 /**
@@ -68,6 +71,55 @@ public class DynamicAppWidgetUtils {
                 preferences, String.valueOf(appWidgetId), value);
     }
 
+    /**
+     * Save the theme for an app widget provider according to the widget id.
+     * <p>It will be saved in the compact binary format to avoid parsing Json on every
+     * widget update.
+     *
+     * @param preferences The preference name to store the key.
+     * @param appWidgetId The app widget id to create or find the preference key.
+     * @param theme The theme to be saved.
+     *
+     * @see DynamicThemeCodec#toBase64(DynamicAppTheme)
+     */
+    public static void saveWidgetTheme(@NonNull String preferences,
+            int appWidgetId, @NonNull DynamicWidgetTheme theme) {
+        saveWidgetSettings(preferences, appWidgetId, DynamicThemeCodec.toBase64(theme));
+    }
+
+    /**
+     * Load the theme for an app widget provider according to the widget id.
+     * <p>It can read the themes saved in the binary format as well as the Json format.
+     * A theme saved in the Json format will be saved again in the binary format so that it
+     * will be parsed only once.
+     *
+     * @param preferences The preference name to store the key.
+     * @param appWidgetId The app widget id to find the preference key.
+     *
+     * @return The saved theme for the app widget, {@code null} if there is no valid theme.
+     *
+     * @see DynamicThemeCodec#fromString(String)
+     */
+    public static @Nullable DynamicWidgetTheme loadWidgetTheme(
+            @NonNull String preferences, int appWidgetId) {
+        String value = loadWidgetSettings(preferences, appWidgetId, null);
+        DynamicAppTheme theme = DynamicThemeCodec.fromString(value);
+
+        if (theme == null) {
+            return null;
+        }
+
+        DynamicWidgetTheme widgetTheme = theme instanceof DynamicWidgetTheme
+                ? (DynamicWidgetTheme) theme
+                : new DynamicWidgetTheme(theme).setWidgetId(appWidgetId);
+
+        if (DynamicThemeCodec.isJsonString(value)) {
+            saveWidgetTheme(preferences, appWidgetId, widgetTheme);
+        }
+
+        return widgetTheme;
+    }
+
     /**
      * Remove a preference for an app widget widget provider according to the widget id.
      *
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.utils;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import android.view.View;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper class to defer the operations on views till the next frame and perform all of them
+ * together in a single batch.
+ * <p>Posted views are strongly referenced till the batch is performed and the operations will
+ * run on them even if they have been detached in the meantime.
+ * <p>It uses a {@link Choreographer} frame callback on Jelly Bean and above, otherwise the
+ * batch will be posted on the main thread.
+ */
+public class DynamicBatchUtils {
+
+    /**
+     * Interface to perform an operation on the views of a batch.
+     */
+    public interface BatchOperation {
+
+        /**
+         * This method will be called once per batch before applying this operation on the
+         * views, so that the shared values like colors can be resolved only once.
+         */
+        void onPrepare();
+
+        /**
+         * This method will be called to apply this operation on a view of the batch.
+         * <p>It will be called for the posted view even if it has been detached from the
+         * window since it was posted, so the operation should check the view state if required.
+         *
+         * <p><p>Exceptions will be thrown after performing the rest of the batch, so the
+         * operation should handle the expected ones.
+         *
+         * @param view The view to apply this operation.
+         */
+        void onApply(@NonNull View view);
+    }
+
+    /**
+     * Pending views of the next batch.
+     */
+    private static final List<View> sViews = new ArrayList<>();
+
+    /**
+     * Pending operations of the next batch, one for each pending view.
+     */
+    private static final List<BatchOperation> sOperations = new ArrayList<>();
+
+    /**
+     * Operations already prepared for the current batch.
+     */
+    private static final List<BatchOperation> sPrepared = new ArrayList<>();
+
+    /**
+     * Runnable to perform the pending batch.
+     */
+    private static final Runnable sBatch = new Runnable() {
+        @Override
+        public void run() {
+            performBatch();
+        }
+    };
+
+    /**
+     * Frame callback to perform the pending batch on Jelly Bean and above.
+     */
+    private static Object sFrameCallback;
+
+    /**
+     * Handler to post the pending batch below Jelly Bean.
+     */
+    private static Handler sHandler;
+
+    /**
+     * {@code true} if the pending batch has been scheduled.
+     */
+    private static boolean sScheduled;
+
+    /**
+     * Add a view to the next batch to perform the supplied operation on it.
+     *
+     * @param view The view to perform the operation.
+     * @param operation The operation to be performed.
+     */
+    @MainThread
+    public static void post(@NonNull View view, @NonNull BatchOperation operation) {
+        sViews.add(view);
+        sOperations.add(operation);
+
+        if (!sScheduled) {
+            sScheduled = true;
+            scheduleBatch();
+        }
+    }
+
+    /**
+     * Schedule the pending batch for the next frame.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static void scheduleBatch() {
+        if (DynamicVersionUtils.isJellyBean()) {
+            if (sFrameCallback == null) {
+                sFrameCallback = new Choreographer.FrameCallback() {
+                    @Override
+                    public void doFrame(long frameTimeNanos) {
+                        performBatch();
+                    }
+                };
+            }
+
+            Choreographer.getInstance().postFrameCallback(
+                    (Choreographer.FrameCallback) sFrameCallback);
+        } else {
+            if (sHandler == null) {
+                sHandler = new Handler(Looper.getMainLooper());
+            }
+
+            sHandler.post(sBatch);
+        }
+    }
+
+    /**
+     * Perform all the pending operations.
+     * <p>Operations posted while performing the batch will be deferred to the next batch.
+     * If an operation throws an exception then, the rest of the batch will still be performed
+     * and the first exception will be thrown at the end.
+     */
+    private static void performBatch() {
+        sScheduled = false;
+        int size = sViews.size();
+        RuntimeException failure = null;
+
+        try {
+            for (int i = 0; i < size; i++) {
+                BatchOperation operation = sOperations.get(i);
+
+                try {
+                    if (!sPrepared.contains(operation)) {
+                        operation.onPrepare();
+                        sPrepared.add(operation);
+                    }
+
+                    operation.onApply(sViews.get(i));
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        } finally {
+            sViews.subList(0, size).clear();
+            sOperations.subList(0, size).clear();
+            sPrepared.clear();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.pranavpandey.android.dynamic.support.utils;
 
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
+import android.graphics.ColorFilter;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffColorFilter;
 import android.graphics.drawable.Drawable;
@@ -84,16 +85,28 @@ public class DynamicMenuUtils {
      *
      * @param view The view to set its items color.
      * @param color The tint color to be applied.
+     * @param background The background color for the hints.
      */
-    @TargetApi(Build.VERSION_CODES.M)
-    public static void setViewItemsTint(@NonNull final View view,
-            @ColorInt final int color, @ColorInt final int background) {
-        final PorterDuffColorFilter colorFilter
-                = new PorterDuffColorFilter(color, PorterDuff.Mode.SRC_IN);
+    public static void setViewItemsTint(@NonNull View view,
+            @ColorInt int color, @ColorInt int background) {
+        setViewItemsTint(view, color, new PorterDuffColorFilter(color, PorterDuff.Mode.SRC_IN),
+                new HintOperation(color, background));
+    }
 
+    /**
+     * Set other items color of this view according to the supplied values.
+     *
+     * @param view The view to set its items color.
+     * @param color The tint color to be applied.
+     * @param colorFilter The color filter to be applied on the icons.
+     * @param hint The batch operation to show hints on long click.
+     */
+    @TargetApi(Build.VERSION_CODES.M)
+    private static void setViewItemsTint(@NonNull View view, @ColorInt int color,
+            @NonNull ColorFilter colorFilter, @NonNull HintOperation hint) {
         if (view instanceof ViewGroup){
             for (int i = 0; i < ((ViewGroup) view).getChildCount(); i++){
-                setViewItemsTint(((ViewGroup) view).getChildAt(i), color, background);
+                setViewItemsTint(((ViewGroup) view).getChildAt(i), color, colorFilter, hint);
             }
         }
 
@@ -109,23 +122,7 @@ public class DynamicMenuUtils {
             DynamicTintUtils.setViewBackgroundTint(view, color, true);
 
             if (!TextUtils.isEmpty(view.getContentDescription())) {
-                new android.os.Handler().post(new Runnable() {
-                    @Override
-                    public void run() {
-                        try {
-                            view.setOnLongClickListener(new View.OnLongClickListener() {
-                                @Override
-                                public boolean onLongClick(View v) {
-                                    DynamicHint.show(v, DynamicHint.make(
-                                            DynamicTheme.getInstance().getContext(),
-                                            v.getContentDescription(), background, color));
-                                    return true;
-                                }
-                            });
-                        } catch (Exception ignored) {
-                        }
-                    }
-                });
+                DynamicBatchUtils.post(view, hint);
             }
         }
 
@@ -163,29 +160,58 @@ public class DynamicMenuUtils {
 
                 if (innerView instanceof MenuView.ItemView) {
                     DynamicTintUtils.setViewBackgroundTint(view, color, true);
-
-                    new android.os.Handler().post(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                innerView.setOnLongClickListener(new View.OnLongClickListener() {
-                                    @SuppressLint("RestrictedApi")
-                                    @Override
-                                    public boolean onLongClick(View v) {
-                                        DynamicHint.show(v, DynamicHint.make(
-                                                DynamicTheme.getInstance().getContext(),
-                                                ((MenuView.ItemView) innerView)
-                                                        .getItemData().getTitle(),
-                                                background, color));
-                                        return true;
-                                    }
-                                });
-                            } catch (Exception ignored) {
-                            }
-                        }
-                    });
+                    DynamicBatchUtils.post(innerView, hint);
                 }
             }
         }
     }
+
+    /**
+     * Batch operation to show a hint on long click of the toolbar items.
+     * <p>A single long click listener is shared by all the items of a view.
+     */
+    private static final class HintOperation implements
+            DynamicBatchUtils.BatchOperation, View.OnLongClickListener {
+
+        /**
+         * Tint color for the hint.
+         */
+        private final @ColorInt int mColor;
+
+        /**
+         * Background color for the hint.
+         */
+        private final @ColorInt int mBackground;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param color The tint color for the hint.
+         * @param background The background color for the hint.
+         */
+        HintOperation(@ColorInt int color, @ColorInt int background) {
+            this.mColor = color;
+            this.mBackground = background;
+        }
+
+        @Override
+        public void onPrepare() { }
+
+        @Override
+        public void onApply(@NonNull View view) {
+            view.setOnLongClickListener(this);
+        }
+
+        @SuppressLint("RestrictedApi")
+        @Override
+        public boolean onLongClick(View v) {
+            CharSequence hint = v instanceof MenuView.ItemView
+                    ? ((MenuView.ItemView) v).getItemData().getTitle()
+                    : v.getContentDescription();
+
+            DynamicHint.show(v, DynamicHint.make(DynamicTheme.getInstance().getContext(),
+                    hint, mBackground, mColor));
+            return true;
+        }
+    }
 }
@@ -32,6 +32,7 @@ import android.text.TextUtils;
 import android.text.style.ForegroundColorSpan;
 import android.text.style.StyleSpan;
 import android.util.AttributeSet;
+import android.util.LruCache;
 import android.util.TypedValue;
 import android.widget.TextView;
 
@@ -73,6 +74,126 @@ public class DynamicResourceUtils {
      */
     public static final int ADS_DEFAULT_RESOURCE_VALUE = 0;
 
+    /**
+     * Maximum number of color state lists and state list drawables to be cached.
+     */
+    public static final int ADS_STATE_CACHE_SIZE = 64;
+
+    /**
+     * Constant for the simple color state list.
+     */
+    private static final int ADS_STATE_SIMPLE = 0;
+
+    /**
+     * Constant for the color state list with normal and tint colors.
+     */
+    private static final int ADS_STATE_NORMAL = 1;
+
+    /**
+     * Constant for the converted color state list.
+     */
+    private static final int ADS_STATE_CONVERTED = 2;
+
+    /**
+     * Constant for the non-checkable color state list or drawable.
+     */
+    private static final int ADS_STATE_DEFAULT = 3;
+
+    /**
+     * Constant for the checkable color state list or drawable.
+     */
+    private static final int ADS_STATE_CHECKABLE = 4;
+
+    /**
+     * State sets for the simple color state list.
+     */
+    private static final int[][] ADS_STATES_SIMPLE = new int[][] {
+            new int[] { -android.R.attr.state_enabled },
+            new int[] { android.R.attr.state_enabled }
+    };
+
+    /**
+     * State sets for the converted color state list.
+     */
+    private static final int[][] ADS_STATES_CONVERTED = new int[][] {
+            new int[] { android.R.attr.state_checked },
+            new int[] { android.R.attr.state_enabled },
+            new int[] { android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_focused },
+            new int[] { android.R.attr.state_pressed }
+    };
+
+    /**
+     * State sets for the non-checkable color state list or drawable.
+     */
+    private static final int[][] ADS_STATES_DEFAULT = new int[][] {
+            new int[] { -android.R.attr.state_enabled,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_enabled,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_pressed },
+            new int[] { }
+    };
+
+    /**
+     * State sets for the checkable color state list.
+     */
+    private static final int[][] ADS_STATES_CHECKABLE = new int[][] {
+            new int[] { -android.R.attr.state_enabled,
+                    -android.R.attr.state_activated,
+                    -android.R.attr.state_checked,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_enabled,
+                    -android.R.attr.state_activated,
+                    -android.R.attr.state_checked,
+                    -android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_enabled,
+                    -android.R.attr.state_activated,
+                    -android.R.attr.state_checked,
+                    android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_activated },
+            new int[] { android.R.attr.state_checked },
+            new int[] { }
+    };
+
+    /**
+     * State sets for the checkable state list drawable.
+     */
+    private static final int[][] ADS_STATES_CHECKABLE_DRAWABLE = new int[][] {
+            ADS_STATES_CHECKABLE[0],
+            ADS_STATES_CHECKABLE[1],
+            ADS_STATES_CHECKABLE[2],
+            new int[] { android.R.attr.state_checked,
+                    android.R.attr.state_pressed },
+            new int[] { android.R.attr.state_checked,
+                    android.R.attr.state_pressed },
+            new int[] { }
+    };
+
+    /**
+     * Cache for the color state lists keyed by their colors and type.
+     * <p>Color state lists are immutable so, the same instance can be shared by the views.
+     */
+    private static final LruCache<StateKey, ColorStateList> sColorStateLists =
+            new LruCache<StateKey, ColorStateList>(ADS_STATE_CACHE_SIZE) {
+                @Override
+                protected ColorStateList create(StateKey key) {
+                    return key.toColorStateList();
+                }
+            };
+
+    /**
+     * Cache for the state list drawables keyed by their colors and type.
+     * <p>Only the constant state is cached and a new drawable is created for each view.
+     */
+    private static final LruCache<StateKey, Drawable.ConstantState> sStateListDrawables =
+            new LruCache<StateKey, Drawable.ConstantState>(ADS_STATE_CACHE_SIZE) {
+                @Override
+                protected Drawable.ConstantState create(StateKey key) {
+                    return key.toStateListDrawable().getConstantState();
+                }
+            };
+
     /**
      * Extract the supplied attribute value resource id from the theme.
      *
@@ -378,6 +499,7 @@ public class DynamicResourceUtils {
 
     /**
      * Create a new color state list from the supplied one by changing its normal and tint colors.
+     * <p>The returned color state list is shared, so it must not be modified.
      *
      * @param colorStateList The state list drawable to be converted.
      * @param normalColor The normal color to be applied.
@@ -388,28 +510,13 @@ public class DynamicResourceUtils {
     public static @NonNull ColorStateList convertColorStateListWithNormal(
             @NonNull ColorStateList colorStateList,
             @ColorInt int normalColor, @ColorInt int tintColor) {
-
-        int[][] states = new int[][] {
-                new int[] { android.R.attr.state_checked },
-                new int[] { android.R.attr.state_enabled },
-                new int[] { android.R.attr.state_pressed },
-                new int[] { android.R.attr.state_focused },
-                new int[] { android.R.attr.state_pressed }
-        };
-
-        int[] colors = new int[] {
-                tintColor,
-                normalColor,
-                normalColor,
-                normalColor,
-                normalColor,
-        };
-
-        return new ColorStateList(states, colors);
+        return sColorStateLists.get(new StateKey(ADS_STATE_NORMAL,
+                normalColor, normalColor, normalColor, tintColor));
     }
 
     /**
      * Create a new color state list from the supplied one by changing its normal and tint colors.
+     * <p>The returned color state list is shared, so it must not be modified.
      *
      * @param colorStateList The state list drawable to be converted.
      * @param normalColor The normal color to be applied.
@@ -429,6 +536,7 @@ public class DynamicResourceUtils {
 
     /**
      * Create a new color state list from the supplied one by changing its tint color.
+     * <p>The returned color state list is shared, so it must not be modified.
      *
      * @param colorStateList The state list drawable to be converted.
      * @param color The color to be applied.
@@ -437,32 +545,17 @@ public class DynamicResourceUtils {
      */
     public static @NonNull ColorStateList convertColorStateList(
             @NonNull ColorStateList colorStateList, @ColorInt int color) {
-
-        int[][] states = new int[][] {
-                new int[] { android.R.attr.state_checked },
-                new int[] { android.R.attr.state_enabled },
-                new int[] { android.R.attr.state_pressed },
-                new int[] { android.R.attr.state_focused },
-                new int[] { android.R.attr.state_pressed }
-        };
-
-        int[] colors = new int[] {
-                color,
-                colorStateList.getColorForState
-                        (new int[] { android.R.attr.state_enabled }, color),
-                colorStateList.getColorForState(
-                        new int[] { android.R.attr.state_pressed }, color),
-                colorStateList.getColorForState
-                        (new int[] { android.R.attr.state_focused }, color),
-                colorStateList.getColorForState(
-                        new int[] { android.R.attr.state_pressed }, color),
-        };
-
-        return new ColorStateList(states, colors);
+        // Enabled, pressed and focused colors of the supplied color state list.
+        return sColorStateLists.get(new StateKey(ADS_STATE_CONVERTED,
+                colorStateList.getColorForState(ADS_STATES_CONVERTED[1], color),
+                colorStateList.getColorForState(ADS_STATES_CONVERTED[2], color),
+                colorStateList.getColorForState(ADS_STATES_CONVERTED[3], color),
+                color));
     }
 
     /**
      * Create a new color state list from the supplied one by changing its tint color.
+     * <p>The returned color state list is shared, so it must not be modified.
      *
      * @param colorStateList The state list drawable to be converted.
      * @param color The color to be applied.
@@ -481,23 +574,20 @@ public class DynamicResourceUtils {
     /**
      * Create a new color state list from the supplied tint color.
      * <p>Tint color will be applied on all the states.
+     * <p>The returned color state list is shared, so it must not be modified.
      *
      * @param color The tint color to be applied.
      *
      * @return The color state list with the applied tint color.
      */
     public static @NonNull ColorStateList getColorStateList(@ColorInt int color) {
-        return new ColorStateList(
-                new int[][] {
-                        new int[] { -android.R.attr.state_enabled },
-                        new int[] { android.R.attr.state_enabled }
-                },
-                new int[] { color, color });
+        return sColorStateLists.get(new StateKey(ADS_STATE_SIMPLE, color, color, color, color));
     }
 
     /**
      * Create a new color state list from the supplied disabled, normal and tint colors.
      * <p>Tint color will be applied on the states like checked, enabled, etc.
+     * <p>The returned color state list is shared, so it must not be modified.
      *
      * @param disabled The color for the disabled state.
      * @param normal The color for the normal state.
@@ -509,38 +599,8 @@ public class DynamicResourceUtils {
      */
     public static @NonNull ColorStateList getColorStateList(@ColorInt int disabled,
             @ColorInt int normal, @ColorInt int pressed, @ColorInt int color, boolean checkable) {
-        if (checkable) {
-            return new ColorStateList(
-                    new int[][] {
-                            new int[] { -android.R.attr.state_enabled,
-                                    -android.R.attr.state_activated,
-                                    -android.R.attr.state_checked,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_enabled,
-                                    -android.R.attr.state_activated,
-                                    -android.R.attr.state_checked,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_enabled,
-                                    -android.R.attr.state_activated,
-                                    -android.R.attr.state_checked,
-                                    android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_activated },
-                            new int[] { android.R.attr.state_checked },
-                            new int[] { }
-                    },
-                    new int[] { disabled, normal, pressed, color, color, normal });
-        } else {
-            return new ColorStateList(
-                    new int[][]{
-                            new int[] { -android.R.attr.state_enabled,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_enabled,
-                                    -android.R.attr.state_pressed },
-                            new int[] { android.R.attr.state_pressed },
-                            new int[] { }
-                    },
-                    new int[]{ disabled, normal, color, normal });
-        }
+        return sColorStateLists.get(new StateKey(checkable
+                ? ADS_STATE_CHECKABLE : ADS_STATE_DEFAULT, disabled, normal, pressed, color));
     }
 
     /**
@@ -577,6 +637,8 @@ public class DynamicResourceUtils {
     /**
      * Create a new state list drawable from the supplied disabled, normal and tint colors.
      * <p>Tint color will be applied on the states like checked, enabled, etc.
+     * <p>The returned drawable shares its constant state with the other drawables of the
+     * same colors, so it must be mutated before modifying it.
      *
      * @param disabled The color for the disabled state.
      * @param normal The color for the normal state.
@@ -585,58 +647,14 @@ public class DynamicResourceUtils {
      * @param checkable {@code true} if the view is checkable.
      *
      * @return The state list drawable with the applied normal and tint colors.
+     *
+     * @see Drawable#mutate()
      */
     public static @NonNull StateListDrawable getStateListDrawable(@ColorInt int disabled,
             @ColorInt int normal, @ColorInt int pressed, @ColorInt int color, boolean checkable) {
-        StateListDrawable drawable = new StateListDrawable();
-
-        if (checkable) {
-            drawable.addState(
-                    new int[] { -android.R.attr.state_enabled,
-                            -android.R.attr.state_activated,
-                            -android.R.attr.state_checked,
-                            -android.R.attr.state_pressed },
-                    new ColorDrawable(disabled));
-            drawable.addState(
-                    new int[] { android.R.attr.state_enabled,
-                            -android.R.attr.state_activated,
-                            -android.R.attr.state_checked,
-                            -android.R.attr.state_pressed },
-                    new ColorDrawable(normal));
-            drawable.addState(
-                    new int[] { android.R.attr.state_enabled,
-                            -android.R.attr.state_activated,
-                            -android.R.attr.state_checked,
-                            android.R.attr.state_pressed },
-                    new ColorDrawable(pressed));
-            drawable.addState(
-                    new int[] { android.R.attr.state_checked,
-                            android.R.attr.state_pressed },
-                    new ColorDrawable(color));
-            drawable.addState(
-                    new int[] { android.R.attr.state_checked,
-                            android.R.attr.state_pressed },
-                    new ColorDrawable(color));
-            drawable.addState(new int[] { },
-                    new ColorDrawable(normal));
-        } else {
-            drawable.addState(
-                    new int[] { -android.R.attr.state_enabled,
-                            -android.R.attr.state_pressed },
-                    new ColorDrawable(disabled));
-            drawable.addState(
-                    new int[] { android.R.attr.state_enabled,
-                            -android.R.attr.state_pressed },
-                    new ColorDrawable(normal));
-            drawable.addState(
-                    new int[] { android.R.attr.state_pressed },
-                    new ColorDrawable(color));
-            drawable.addState(
-                    new int[] { },
-                    new ColorDrawable(normal));
-        }
-
-        return drawable;
+        return (StateListDrawable) sStateListDrawables.get(new StateKey(checkable
+                ? ADS_STATE_CHECKABLE : ADS_STATE_DEFAULT, disabled, normal, pressed, color))
+                .newDrawable();
     }
 
     /**
@@ -655,6 +673,34 @@ public class DynamicResourceUtils {
       return getStateListDrawable(normal, normal, pressed, color, checkable);
     }
 
+    /**
+     * Get the number of color state lists and state list drawables returned from the cache.
+     *
+     * @return The number of color state lists and state list drawables returned from the cache.
+     */
+    public static int getStateCacheHitCount() {
+        return sColorStateLists.hitCount() + sStateListDrawables.hitCount();
+    }
+
+    /**
+     * Get the number of color state lists and state list drawables created as they were not
+     * present in the cache.
+     *
+     * @return The number of color state lists and state list drawables created as they were
+     *         not present in the cache.
+     */
+    public static int getStateCacheMissCount() {
+        return sColorStateLists.missCount() + sStateListDrawables.missCount();
+    }
+
+    /**
+     * Remove all the color state lists and state list drawables from the cache.
+     */
+    public static void clearStateCache() {
+        sColorStateLists.evictAll();
+        sStateListDrawables.evictAll();
+    }
+
     /**
      * Get the value resource id of a given attribute.
      *
@@ -731,13 +777,13 @@ public class DynamicResourceUtils {
      *
      * @return The color array from its resource id.
      */
-    public static @Nullable @ColorInt Integer[] convertToColorArray(
+    public static @Nullable @ColorInt int[] convertToColorArray(
             @NonNull Context context, @ArrayRes int arrayRes) {
-        Integer[] colors = null;
+        int[] colors = null;
 
         if (arrayRes != ADS_DEFAULT_RESOURCE_ID) {
             TypedArray colorArray = context.getResources().obtainTypedArray(arrayRes);
-            colors = new Integer[colorArray.length()];
+            colors = new int[colorArray.length()];
 
             for (int i = 0; i < colorArray.length(); i++) {
                 try {
@@ -791,4 +837,129 @@ public class DynamicResourceUtils {
     public static boolean isNight(@Theme.ToString String theme) {
         return isNight(Integer.valueOf(theme));
     }
+
+    /**
+     * Key to cache the color state lists and state list drawables according to their colors
+     * and type.
+     */
+    private static final class StateKey {
+
+        /**
+         * Type of the color state list or drawable.
+         */
+        private final int type;
+
+        /**
+         * Color for the disabled state.
+         */
+        private final @ColorInt int disabled;
+
+        /**
+         * Color for the normal state.
+         */
+        private final @ColorInt int normal;
+
+        /**
+         * Color for the pressed state.
+         */
+        private final @ColorInt int pressed;
+
+        /**
+         * Tint color for the checked or activated state.
+         */
+        private final @ColorInt int color;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param type The type of the color state list or drawable.
+         * @param disabled The color for the disabled state.
+         * @param normal The color for the normal state.
+         * @param pressed The color for the pressed state.
+         * @param color The tint color for the checked or activated state.
+         */
+        StateKey(int type, @ColorInt int disabled, @ColorInt int normal,
+                @ColorInt int pressed, @ColorInt int color) {
+            this.type = type;
+            this.disabled = disabled;
+            this.normal = normal;
+            this.pressed = pressed;
+            this.color = color;
+        }
+
+        /**
+         * Create a new color state list for this key.
+         *
+         * @return The color state list for this key.
+         */
+        @NonNull ColorStateList toColorStateList() {
+            switch (type) {
+                case ADS_STATE_SIMPLE:
+                    return new ColorStateList(ADS_STATES_SIMPLE, new int[] { color, color });
+                case ADS_STATE_NORMAL:
+                    return new ColorStateList(ADS_STATES_CONVERTED,
+                            new int[] { color, normal, normal, normal, normal });
+                case ADS_STATE_CONVERTED:
+                    return new ColorStateList(ADS_STATES_CONVERTED,
+                            new int[] { color, disabled, normal, pressed, normal });
+                case ADS_STATE_CHECKABLE:
+                    return new ColorStateList(ADS_STATES_CHECKABLE,
+                            new int[] { disabled, normal, pressed, color, color, normal });
+                case ADS_STATE_DEFAULT:
+                default:
+                    return new ColorStateList(ADS_STATES_DEFAULT,
+                            new int[] { disabled, normal, color, normal });
+            }
+        }
+
+        /**
+         * Create a new state list drawable for this key.
+         *
+         * @return The state list drawable for this key.
+         */
+        @NonNull StateListDrawable toStateListDrawable() {
+            StateListDrawable drawable = new StateListDrawable();
+            int[][] states;
+            int[] colors;
+
+            if (type == ADS_STATE_CHECKABLE) {
+                states = ADS_STATES_CHECKABLE_DRAWABLE;
+                colors = new int[] { disabled, normal, pressed, color, color, normal };
+            } else {
+                states = ADS_STATES_DEFAULT;
+                colors = new int[] { disabled, normal, color, normal };
+            }
+
+            for (int i = 0; i < states.length; i++) {
+                drawable.addState(states[i], new ColorDrawable(colors[i]));
+            }
+
+            return drawable;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof StateKey)) {
+                return false;
+            }
+
+            StateKey key = (StateKey) o;
+            return type == key.type && disabled == key.disabled && normal == key.normal
+                    && pressed == key.pressed && color == key.color;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = type;
+            result = 31 * result + disabled;
+            result = 31 * result + normal;
+            result = 31 * result + pressed;
+            result = 31 * result + color;
+            return result;
+        }
+    }
 }
@@ -42,6 +42,8 @@ import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
 
 import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
 
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
 
@@ -146,241 +148,186 @@ public final class DynamicScrollUtils {
     private static Field ADS_VIEW_SCROLL_BAR_HORIZONTAL_THUMB;
 
     /**
-     * Initialize edge effect or glow fields so that we can access them via reflection.
+     * Cache of the declared fields mapped to their class and name.
+     * <p>Fields which are not found will be mapped to {@code null} so that they will not be
+     * looked up again.
      */
-    @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
-    private static void initializeEdgeEffectFields() {
-        if (ADS_EDGE_EFFECT_FIELD_EDGE != null
-                && ADS_EDGE_EFFECT_FIELD_GLOW != null
-                && ADS_EDGE_EFFECT_COMPAT_FIELD_EDGE_EFFECT != null) {
-            ADS_EDGE_EFFECT_FIELD_EDGE.setAccessible(true);
-            ADS_EDGE_EFFECT_FIELD_GLOW.setAccessible(true);
-            ADS_EDGE_EFFECT_COMPAT_FIELD_EDGE_EFFECT.setAccessible(true);
+    private static final Map<Class<?>, Map<String, Field>> sFields = new HashMap<>();
 
-            return;
-        }
+    /**
+     * {@code true} if the edge effect fields have been initialized.
+     */
+    private static boolean sEdgeEffectFields;
 
-        if (DynamicVersionUtils.isLollipop()) {
-            ADS_EDGE_EFFECT_FIELD_EDGE = null;
-            ADS_EDGE_EFFECT_FIELD_GLOW = null;
-        } else if (DynamicVersionUtils.isIceCreamSandwich()) {
-            Field edge = null;
-            Field glow = null;
-            for (Field field : EdgeEffect.class.getDeclaredFields()) {
-                switch (field.getName()) {
-                    case "mEdge":
-                        field.setAccessible(true);
-                        edge = field;
-                        break;
-                    case "mGlow":
-                        field.setAccessible(true);
-                        glow = field;
-                        break;
-                }
+    /**
+     * {@code true} if the recycler view fields have been initialized.
+     */
+    private static boolean sRecyclerViewFields;
+
+    /**
+     * {@code true} if the abs list view fields have been initialized.
+     */
+    private static boolean sListViewFields;
+
+    /**
+     * {@code true} if the scroll view fields have been initialized.
+     */
+    private static boolean sScrollViewFields;
+
+    /**
+     * {@code true} if the nested scroll view fields have been initialized.
+     */
+    private static boolean sNestedScrollViewFields;
+
+    /**
+     * {@code true} if the view pager fields have been initialized.
+     */
+    private static boolean sViewPagerFields;
+
+    /**
+     * {@code true} if the navigation view fields have been initialized.
+     */
+    private static boolean sNavigationViewFields;
+
+    /**
+     * Get an accessible declared field of the supplied class from the cache.
+     * <p>It will be looked up only once for each class, failures will also be cached.
+     *
+     * @param clazz The class to get the declared field.
+     * @param name The name of the field.
+     *
+     * @return The accessible declared field or {@code null} if it is not found.
+     */
+    private static @Nullable Field getField(@NonNull Class<?> clazz, @NonNull String name) {
+        synchronized (sFields) {
+            Map<String, Field> fields = sFields.get(clazz);
+            if (fields == null) {
+                fields = new HashMap<>();
+                sFields.put(clazz, fields);
+            } else if (fields.containsKey(name)) {
+                return fields.get(name);
             }
 
-            ADS_EDGE_EFFECT_FIELD_EDGE = edge;
-            ADS_EDGE_EFFECT_FIELD_GLOW = glow;
+            Field field = null;
+            try {
+                field = clazz.getDeclaredField(name);
+                field.setAccessible(true);
+            } catch (Exception e) {
+                field = null;
+            }
+
+            fields.put(name, field);
+            return field;
         }
+    }
 
-        Field edgeEffectCompat = null;
-        try {
-            edgeEffectCompat = EdgeEffectCompat.class.getDeclaredField("mEdgeEffect");
-        } catch (NoSuchFieldException ignored) {
+    /**
+     * Initialize edge effect or glow fields so that we can access them via reflection.
+     */
+    private static void initializeEdgeEffectFields() {
+        if (sEdgeEffectFields) {
+            return;
         }
-        ADS_EDGE_EFFECT_COMPAT_FIELD_EDGE_EFFECT = edgeEffectCompat;
+
+        if (!DynamicVersionUtils.isLollipop()) {
+            ADS_EDGE_EFFECT_FIELD_EDGE = getField(EdgeEffect.class, "mEdge");
+            ADS_EDGE_EFFECT_FIELD_GLOW = getField(EdgeEffect.class, "mGlow");
+        }
+
+        ADS_EDGE_EFFECT_COMPAT_FIELD_EDGE_EFFECT =
+                getField(EdgeEffectCompat.class, "mEdgeEffect");
+        sEdgeEffectFields = true;
     }
 
     /**
      * Initialize recycler view fields so that we can access them via reflection.
      */
     private static void initializeRecyclerViewFields() {
-        if (ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_TOP != null
-                && ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_LEFT != null
-                && ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_RIGHT != null
-                && ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_BOTTOM != null) {
-            ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_TOP.setAccessible(true);
-            ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_LEFT.setAccessible(true);
-            ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_RIGHT.setAccessible(true);
-            ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_BOTTOM.setAccessible(true);
-
+        if (sRecyclerViewFields) {
             return;
         }
 
-        Class<?> clazz = RecyclerView.class;
-        for (Field field : clazz.getDeclaredFields()) {
-            switch (field.getName()) {
-                case "mTopGlow":
-                    field.setAccessible(true);
-                    ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_TOP = field;
-                    break;
-                case "mBottomGlow":
-                    field.setAccessible(true);
-                    ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_BOTTOM = field;
-                    break;
-                case "mLeftGlow":
-                    field.setAccessible(true);
-                    ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_LEFT = field;
-                    break;
-                case "mRightGlow":
-                    field.setAccessible(true);
-                    ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_RIGHT = field;
-                    break;
-            }
-        }
+        ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_TOP = getField(RecyclerView.class, "mTopGlow");
+        ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_BOTTOM = getField(RecyclerView.class, "mBottomGlow");
+        ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_LEFT = getField(RecyclerView.class, "mLeftGlow");
+        ADS_RECYCLER_VIEW_FIELD_EDGE_GLOW_RIGHT = getField(RecyclerView.class, "mRightGlow");
+        sRecyclerViewFields = true;
     }
 
     /**
      * Initialize abs list view fields so that we can access them via reflection.
      */
     private static void initializeListViewFields() {
-        if (ADS_LIST_VIEW_FIELD_EDGE_GLOW_TOP != null
-                && ADS_LIST_VIEW_FIELD_EDGE_GLOW_BOTTOM != null) {
-            ADS_LIST_VIEW_FIELD_EDGE_GLOW_TOP.setAccessible(true);
-            ADS_LIST_VIEW_FIELD_EDGE_GLOW_BOTTOM.setAccessible(true);
-
+        if (sListViewFields) {
             return;
         }
 
-        final Class<?> clazz = AbsListView.class;
-        for (Field field : clazz.getDeclaredFields()) {
-            switch (field.getName()) {
-                case "mEdgeGlowTop":
-                    field.setAccessible(true);
-                    ADS_LIST_VIEW_FIELD_EDGE_GLOW_TOP = field;
-                    break;
-                case "mEdgeGlowBottom":
-                    field.setAccessible(true);
-                    ADS_LIST_VIEW_FIELD_EDGE_GLOW_BOTTOM = field;
-                    break;
-            }
-        }
+        ADS_LIST_VIEW_FIELD_EDGE_GLOW_TOP = getField(AbsListView.class, "mEdgeGlowTop");
+        ADS_LIST_VIEW_FIELD_EDGE_GLOW_BOTTOM = getField(AbsListView.class, "mEdgeGlowBottom");
+        sListViewFields = true;
     }
 
     /**
      * Initialize scroll view fields so that we can access them via reflection.
      */
     private static void initializeScrollViewFields() {
-        if (ADS_SCROLL_VIEW_FIELD_EDGE_GLOW_TOP != null
-                && ADS_SCROLL_VIEW_FIELD_EDGE_GLOW_BOTTOM != null) {
-            ADS_SCROLL_VIEW_FIELD_EDGE_GLOW_TOP.setAccessible(true);
-            ADS_SCROLL_VIEW_FIELD_EDGE_GLOW_BOTTOM.setAccessible(true);
-
+        if (sScrollViewFields) {
             return;
         }
 
-        final Class<?> clazz = ScrollView.class;
-        for (Field field : clazz.getDeclaredFields()) {
-            switch (field.getName()) {
-                case "mEdgeGlowTop":
-                    field.setAccessible(true);
-                    ADS_SCROLL_VIEW_FIELD_EDGE_GLOW_TOP = field;
-                    break;
-                case "mEdgeGlowBottom":
-                    field.setAccessible(true);
-                    ADS_SCROLL_VIEW_FIELD_EDGE_GLOW_BOTTOM = field;
-                    break;
-            }
-        }
+        ADS_SCROLL_VIEW_FIELD_EDGE_GLOW_TOP = getField(ScrollView.class, "mEdgeGlowTop");
+        ADS_SCROLL_VIEW_FIELD_EDGE_GLOW_BOTTOM = getField(ScrollView.class, "mEdgeGlowBottom");
+        sScrollViewFields = true;
     }
 
     /**
      * Initialize nested scroll view fields so that we can access them via reflection.
      */
     private static void initializeNestedScrollViewFields() {
-        if (ADS_NESTED_SCROLL_VIEW_FIELD_EDGE_GLOW_TOP != null
-                && ADS_NESTED_SCROLL_VIEW_FIELD_EDGE_GLOW_BOTTOM != null) {
-            ADS_NESTED_SCROLL_VIEW_FIELD_EDGE_GLOW_TOP.setAccessible(true);
-            ADS_NESTED_SCROLL_VIEW_FIELD_EDGE_GLOW_BOTTOM.setAccessible(true);
-
+        if (sNestedScrollViewFields) {
             return;
         }
 
-        Class<?> clazz = NestedScrollView.class;
-        for (Field field : clazz.getDeclaredFields()) {
-            switch (field.getName()) {
-                case "mEdgeGlowTop":
-                    field.setAccessible(true);
-                    ADS_NESTED_SCROLL_VIEW_FIELD_EDGE_GLOW_TOP = field;
-                    break;
-                case "mEdgeGlowBottom":
-                    field.setAccessible(true);
-                    ADS_NESTED_SCROLL_VIEW_FIELD_EDGE_GLOW_BOTTOM = field;
-                    break;
-            }
-        }
+        ADS_NESTED_SCROLL_VIEW_FIELD_EDGE_GLOW_TOP =
+                getField(NestedScrollView.class, "mEdgeGlowTop");
+        ADS_NESTED_SCROLL_VIEW_FIELD_EDGE_GLOW_BOTTOM =
+                getField(NestedScrollView.class, "mEdgeGlowBottom");
+        sNestedScrollViewFields = true;
     }
 
     /**
      * Initialize view pager fields so that we can access them via reflection.
      */
     private static void initializeViewPagerFields() {
-        if (ADS_VIEW_PAGER_FIELD_EDGE_GLOW_LEFT != null
-                && ADS_VIEW_PAGER_FIELD_EDGE_GLOW_RIGHT != null) {
-            ADS_VIEW_PAGER_FIELD_EDGE_GLOW_LEFT.setAccessible(true);
-            ADS_VIEW_PAGER_FIELD_EDGE_GLOW_RIGHT.setAccessible(true);
-
+        if (sViewPagerFields) {
             return;
         }
 
-        Class<?> clazz = ViewPager.class;
-        for (Field field : clazz.getDeclaredFields()) {
-            switch (field.getName()) {
-                case "mLeftEdge":
-                    field.setAccessible(true);
-                    ADS_VIEW_PAGER_FIELD_EDGE_GLOW_LEFT = field;
-                    break;
-                case "mRightEdge":
-                    field.setAccessible(true);
-                    ADS_VIEW_PAGER_FIELD_EDGE_GLOW_RIGHT = field;
-                    break;
-            }
-        }
+        ADS_VIEW_PAGER_FIELD_EDGE_GLOW_LEFT = getField(ViewPager.class, "mLeftEdge");
+        ADS_VIEW_PAGER_FIELD_EDGE_GLOW_RIGHT = getField(ViewPager.class, "mRightEdge");
+        sViewPagerFields = true;
     }
 
     /**
      * Initialize navigation view fields so that we can access them via reflection.
      */
     private static void initializeNavigationViewFields() {
-        if (ADS_NAVIGATION_VIEW_FIELD_PRESENTER != null
-                && ADS_NAVIGATION_VIEW_FIELD_RECYCLER_VIEW != null) {
-            ADS_NAVIGATION_VIEW_FIELD_PRESENTER.setAccessible(true);
-            ADS_NAVIGATION_VIEW_FIELD_RECYCLER_VIEW.setAccessible(true);
-
+        if (sNavigationViewFields) {
             return;
         }
 
-        Class<?> clazz = NavigationView.class;
-        for (Field field : clazz.getDeclaredFields()) {
-            switch (field.getName()) {
-                case "presenter":
-                    field.setAccessible(true);
-                    ADS_NAVIGATION_VIEW_FIELD_PRESENTER = field;
-                    break;
-            }
-        }
-
-        Class<?> clazz1 = NavigationMenuPresenter.class;
-        for (Field field : clazz1.getDeclaredFields()) {
-            switch (field.getName()) {
-                case "menuView":
-                    field.setAccessible(true);
-                    ADS_NAVIGATION_VIEW_FIELD_RECYCLER_VIEW = field;
-                    break;
-            }
-        }
+        ADS_NAVIGATION_VIEW_FIELD_PRESENTER = getField(NavigationView.class, "presenter");
+        ADS_NAVIGATION_VIEW_FIELD_RECYCLER_VIEW =
+                getField(NavigationMenuPresenter.class, "menuView");
+        sNavigationViewFields = true;
     }
 
     /**
      * Initialize scroll bar fields so that we can access them via reflection.
      */
-    private static void initializeScrollBarFields(@NonNull View view) {
-        try {
-            if (ADS_VIEW_SCROLL_BAR_FIELD_CACHE == null) {
-                ADS_VIEW_SCROLL_BAR_FIELD_CACHE = View.class.getDeclaredField("mScrollCache");
-                ADS_VIEW_SCROLL_BAR_FIELD_CACHE.setAccessible(true);
-            }
-        } catch (Exception ignored) {
+    private static void initializeScrollBarFields() {
+        if (ADS_VIEW_SCROLL_BAR_FIELD_CACHE == null) {
+            ADS_VIEW_SCROLL_BAR_FIELD_CACHE = getField(View.class, "mScrollCache");
         }
     }
 
@@ -425,29 +372,47 @@ public final class DynamicScrollUtils {
     }
 
     /**
-     * Set edge effect or glow color for recycler view.
+     * Set an edge effect factory on the recycler view to tint its edge effects only once
+     * when they are created.
+     * <p>Edge effects will be tinted again only if the recycler view creates new instances,
+     * so it is not required to tint them on every scroll state change.
      *
-     * @param recyclerView The recycler view to set the edge effect color.
+     * <p><p>A custom edge effect factory set by the app will be kept as it is and the existing
+     * edge effects will be tinted instead. In that case, it should be called again whenever
+     * the recycler view may have created new edge effects.
+     *
+     * @param recyclerView The recycler view to set the edge effect factory.
      * @param color The edge effect color to be set.
-     * @param scrollListener Scroll listener to set color on over scroll.
-     */
-    private static void setEdgeEffectColor(@NonNull RecyclerView recyclerView, 
-            final @ColorInt int color, @Nullable RecyclerView.OnScrollListener scrollListener) {
-        if (scrollListener == null) {
-            scrollListener =
-                    new RecyclerView.OnScrollListener() {
-                        @Override
-                        public void onScrollStateChanged(@NonNull RecyclerView recyclerView, 
-                                int newState) {
-                            super.onScrollStateChanged(recyclerView, newState);
-
-                            setEdgeEffectColor(recyclerView, color);
-                        }
-                    };
-            recyclerView.addOnScrollListener(scrollListener);
+     *
+     * @see RecyclerView.EdgeEffectFactory
+     */
+    public static void setEdgeEffectFactory(
+            @NonNull RecyclerView recyclerView, @ColorInt int color) {
+        RecyclerView.EdgeEffectFactory edgeEffectFactory = recyclerView.getEdgeEffectFactory();
+
+        if (edgeEffectFactory instanceof TintEdgeEffectFactory) {
+            if (((TintEdgeEffectFactory) edgeEffectFactory).getColor() == color) {
+                return;
+            }
+        } else if (edgeEffectFactory.getClass() != RecyclerView.EdgeEffectFactory.class) {
+            setEdgeEffectColor(recyclerView, color);
+            return;
         }
 
-        setEdgeEffectColor(recyclerView, color);
+        // Setting a new factory will also invalidate the existing edge effects.
+        recyclerView.setEdgeEffectFactory(new TintEdgeEffectFactory(color));
+    }
+
+    /**
+     * Checks whether the recycler view tints its edge effects when they are created.
+     *
+     * @param recyclerView The recycler view to be checked.
+     *
+     * @return {@code true} if the recycler view uses the edge effect factory set by
+     *         {@link #setEdgeEffectFactory(RecyclerView, int)}.
+     */
+    public static boolean isEdgeEffectFactoryTint(@NonNull RecyclerView recyclerView) {
+        return recyclerView.getEdgeEffectFactory() instanceof TintEdgeEffectFactory;
     }
 
     /**
@@ -522,7 +487,7 @@ public final class DynamicScrollUtils {
                     ADS_NAVIGATION_VIEW_FIELD_PRESENTER.get(navigationView);
             NavigationMenuView navigationMenuView = (NavigationMenuView)
                     ADS_NAVIGATION_VIEW_FIELD_RECYCLER_VIEW.get(presenter);
-            setEdgeEffectColor(navigationMenuView, color, null);
+            setEdgeEffectFactory(navigationMenuView, color);
         } catch (Exception ignored) {
         }
     }
@@ -539,9 +504,8 @@ public final class DynamicScrollUtils {
 
         if (edgeEffect instanceof EdgeEffectCompat) {
             try {
-                ADS_EDGE_EFFECT_COMPAT_FIELD_EDGE_EFFECT.setAccessible(true);
                 edgeEffect = ADS_EDGE_EFFECT_COMPAT_FIELD_EDGE_EFFECT.get(edgeEffect);
-            } catch (IllegalAccessException illegalAccessException) {
+            } catch (Exception e) {
                 return;
             }
         }
@@ -554,9 +518,7 @@ public final class DynamicScrollUtils {
             ((EdgeEffect) edgeEffect).setColor(color);
         } else {
             try {
-                ADS_EDGE_EFFECT_FIELD_EDGE.setAccessible(true);
                 final Drawable mEdge = (Drawable) ADS_EDGE_EFFECT_FIELD_EDGE.get(edgeEffect);
-                ADS_EDGE_EFFECT_FIELD_GLOW.setAccessible(true);
                 final Drawable mGlow = (Drawable) ADS_EDGE_EFFECT_FIELD_GLOW.get(edgeEffect);
                 mEdge.setColorFilter(color, PorterDuff.Mode.SRC_IN);
                 mGlow.setColorFilter(color, PorterDuff.Mode.SRC_IN);
@@ -594,7 +556,7 @@ public final class DynamicScrollUtils {
      * @param color The scroll bar color.
      */
     public static void setScrollBarColor(@NonNull View view, @ColorInt int color) {
-        initializeScrollBarFields(view);
+        initializeScrollBarFields();
         color = DynamicColorUtils.getLessVisibleColor(color);
 
         if (ADS_VIEW_SCROLL_BAR_FIELD_CACHE == null) {
@@ -603,14 +565,21 @@ public final class DynamicScrollUtils {
 
         try {
             Object mScrollCache = ADS_VIEW_SCROLL_BAR_FIELD_CACHE.get(view);
-            ADS_VIEW_SCROLL_BAR_FIELD =
-                    mScrollCache.getClass().getDeclaredField("scrollBar");
-            ADS_VIEW_SCROLL_BAR_FIELD.setAccessible(true);
+            if (mScrollCache == null) {
+                return;
+            }
+
+            ADS_VIEW_SCROLL_BAR_FIELD = getField(mScrollCache.getClass(), "scrollBar");
+            if (ADS_VIEW_SCROLL_BAR_FIELD == null) {
+                return;
+            }
+
             Object scrollBar = ADS_VIEW_SCROLL_BAR_FIELD.get(mScrollCache);
-            ADS_VIEW_SCROLL_BAR_VERTICAL_THUMB =
-                    scrollBar.getClass().getDeclaredField("mVerticalThumb");
-            ADS_VIEW_SCROLL_BAR_VERTICAL_THUMB.setAccessible(true);
+            if (scrollBar == null) {
+                return;
+            }
 
+            ADS_VIEW_SCROLL_BAR_VERTICAL_THUMB = getField(scrollBar.getClass(), "mVerticalThumb");
             if (ADS_VIEW_SCROLL_BAR_VERTICAL_THUMB != null) {
                 DynamicDrawableUtils.colorizeDrawable((Drawable)
                         ADS_VIEW_SCROLL_BAR_VERTICAL_THUMB.get(scrollBar), color);
@@ -628,4 +597,42 @@ public final class DynamicScrollUtils {
         } catch(Exception ignored) {
         }
     }
+
+    /**
+     * An edge effect factory to tint the edge effects of a recycler view when they are created.
+     */
+    private static final class TintEdgeEffectFactory extends RecyclerView.EdgeEffectFactory {
+
+        /**
+         * Color applied to the edge effects.
+         */
+        private final @ColorInt int mColor;
+
+        /**
+         * Constructor to initialize an object of this class.
+         *
+         * @param color The color to be applied to the edge effects.
+         */
+        TintEdgeEffectFactory(@ColorInt int color) {
+            this.mColor = color;
+        }
+
+        /**
+         * Get the color applied to the edge effects.
+         *
+         * @return The color applied to the edge effects.
+         */
+        @ColorInt int getColor() {
+            return mColor;
+        }
+
+        @Override
+        protected @NonNull EdgeEffect createEdgeEffect(
+                @NonNull RecyclerView view, int direction) {
+            EdgeEffect edgeEffect = super.createEdgeEffect(view, direction);
+            setEdgeEffectColor(edgeEffect, mColor);
+
+            return edgeEffect;
+        }
+    }
 }
@@ -34,29 +34,49 @@ import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
  */
 public class DynamicSeekBarUtils {
 
+    /**
+     * Colors to draw the hue spectrum.
+     */
+    private static final int[] ADS_HUE_COLORS = new int[] { 0xFFFF0000, 0xFFFFFF00,
+            0xFF00FF00, 0xFF00FFFF, 0xFF0000FF, 0xFFFF00FF, 0xFFFF0000 };
+
     /**
      * Set a hue gradient progress drawable for a seek bar.
      *
      * @param seekBar The seek bar to set the hue gradient.
      */
-    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
     public static void setHueDrawable(@NonNull SeekBar seekBar) {
+        setHueDrawable(seekBar, new ShapeDrawable(new RectShape()));
+    }
+
+    /**
+     * Set a hue gradient progress drawable for a seek bar.
+     * <p>The supplied drawable will be reused and its shader will be created only if the
+     * seek bar width has been changed.
+     *
+     * @param seekBar The seek bar to set the hue gradient.
+     * @param shape The shape drawable to draw the hue gradient.
+     */
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    public static void setHueDrawable(@NonNull SeekBar seekBar, @NonNull ShapeDrawable shape) {
         if (DynamicVersionUtils.isLollipop()) {
             seekBar.setProgressTintList(null);
         }
 
-        LinearGradient gradient =
-                new LinearGradient(0.0f, 0.0f, (float) seekBar.getWidth(), 0.0f,
-                        new int[] { 0xFFFF0000, 0xFFFFFF00, 0xFF00FF00,
-                                0xFF00FFFF, 0xFF0000FF, 0xFFFF00FF, 0xFFFF0000 },
-                        null, Shader.TileMode.CLAMP);
-        ShapeDrawable shape = new ShapeDrawable(new RectShape());
-        shape.getPaint().setShader(gradient);
+        if (shape.getPaint().getShader() == null
+                || shape.getIntrinsicWidth() != seekBar.getWidth()) {
+            shape.setIntrinsicWidth(seekBar.getWidth());
+            shape.getPaint().setShader(new LinearGradient(0.0f, 0.0f,
+                    (float) seekBar.getWidth(), 0.0f, ADS_HUE_COLORS,
+                    null, Shader.TileMode.CLAMP));
+        }
 
-        Rect bounds = seekBar.getProgressDrawable().getBounds();
+        Rect bounds = new Rect(seekBar.getProgressDrawable().getBounds());
         bounds.inset(0, (int) (bounds.height() * 0.45f));
 
-        seekBar.setProgressDrawable(shape);
+        if (seekBar.getProgressDrawable() != shape) {
+            seekBar.setProgressDrawable(shape);
+        }
         seekBar.getProgressDrawable().setBounds(bounds);
     }
 }
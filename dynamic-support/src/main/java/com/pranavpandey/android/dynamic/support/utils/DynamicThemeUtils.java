@@ -23,12 +23,15 @@ import androidx.annotation.Nullable;
 
 import com.pranavpandey.android.dynamic.support.model.DynamicAppTheme;
 import com.pranavpandey.android.dynamic.support.model.DynamicWidgetTheme;
+import com.pranavpandey.android.dynamic.support.model.adapter.DynamicThemeParser;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicUnitUtils;
 
 import org.json.JSONObject;
 
+import java.text.ParseException;
+
 /**
  * Helper class to perform theme operations.
  */
@@ -162,6 +165,16 @@ public class DynamicThemeUtils {
      */
     public static final String ADS_VALUE_SHOW = "show";
 
+    /**
+     * Initial value to generate the 64-bit hash of a theme.
+     */
+    public static final long ADS_HASH_INITIAL = 0xcbf29ce484222325L;
+
+    /**
+     * Prime used to generate the 64-bit hash of a theme.
+     */
+    private static final long ADS_HASH_PRIME = 0x100000001b3L;
+
     /**
      * Checks whether the string is a valid JSON.
      *
@@ -183,16 +196,58 @@ public class DynamicThemeUtils {
         return isValidJson;
     }
 
+    /**
+     * Combine an integer value with the 64-bit hash by using the FNV-1a algorithm.
+     *
+     * @param hash The hash to combine the value.
+     * @param value The value to be combined.
+     *
+     * @return The combined 64-bit hash.
+     *
+     * @see #ADS_HASH_INITIAL
+     */
+    public static long hash(long hash, int value) {
+        for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= ADS_HASH_PRIME;
+        }
+
+        return hash;
+    }
+
+    /**
+     * Combine a long value with the 64-bit hash by using the FNV-1a algorithm.
+     *
+     * @param hash The hash to combine the value.
+     * @param value The value to be combined.
+     *
+     * @return The combined 64-bit hash.
+     *
+     * @see #ADS_HASH_INITIAL
+     */
+    public static long hash(long hash, long value) {
+        return hash(hash(hash, (int) value), (int) (value >>> Integer.SIZE));
+    }
+
     /**
      * Format the dynamic theme string and remove extra double quotes and white spaces.
+     * <p>It is done in a single pass without using any regular expression.
      *
      * @param string The dynamic theme string to be formatted.
      *
      * @return The formatted dynamic theme string.
      */
     public static @NonNull String formatDynamicTheme(@NonNull String string) {
-        return string.trim().replaceAll(ADS_PATTERN_SPACE, "")
-                .replaceAll(ADS_PATTERN_QUOTES, "\"");
+        StringBuilder builder = new StringBuilder(string.length());
+
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (!DynamicThemeParser.isIgnorable(c)) {
+                builder.append(c);
+            }
+        }
+
+        return builder.toString();
     }
 
     /**
@@ -201,46 +256,15 @@ public class DynamicThemeUtils {
      * @param dynamicTheme The dynamic string to generate the theme.
      *
      * @return The generated dynamic app theme.
+     *
+     * @throws ParseException If the dynamic string is not valid, the error offset will be
+     *         the position of the first error in the dynamic string.
+     *
+     * @see DynamicThemeParser#parseAppTheme(String)
      */
     public static @NonNull DynamicAppTheme getAppTheme(@NonNull String dynamicTheme)
-            throws Exception {
-        DynamicAppTheme dynamicAppTheme = new DynamicAppTheme();
-        JSONObject jsonObject = new JSONObject(formatDynamicTheme(dynamicTheme));
-
-        dynamicAppTheme.setBackgroundColor(getValueFromColor(
-                jsonObject.getString(ADS_NAME_BACKGROUND_COLOR)), false);
-        dynamicAppTheme.setTintBackgroundColor(getValueFromColor(
-                jsonObject.getString(ADS_NAME_TINT_BACKGROUND_COLOR)));
-        dynamicAppTheme.setPrimaryColor(getValueFromColor(
-                jsonObject.getString(ADS_NAME_PRIMARY_COLOR)), false);
-        dynamicAppTheme.setTintPrimaryColor(getValueFromColor(
-                jsonObject.getString(ADS_NAME_TINT_PRIMARY_COLOR)));
-        dynamicAppTheme.setPrimaryColorDark(getValueFromColor(
-                jsonObject.getString(ADS_NAME_PRIMARY_COLOR_DARK)), false);
-        dynamicAppTheme.setTintPrimaryColorDark(getValueFromColor(
-                jsonObject.getString(ADS_NAME_TINT_PRIMARY_COLOR_DARK)));
-        dynamicAppTheme.setAccentColor(getValueFromColor(
-                jsonObject.getString(ADS_NAME_ACCENT_COLOR)), false);
-        dynamicAppTheme.setTintAccentColor(getValueFromColor(
-                jsonObject.getString(ADS_NAME_TINT_ACCENT_COLOR)));
-        dynamicAppTheme.setAccentColorDark(getValueFromColor(
-                jsonObject.getString(ADS_NAME_ACCENT_COLOR_DARK)), false);
-        dynamicAppTheme.setTintAccentColorDark(getValueFromColor(
-                jsonObject.getString(ADS_NAME_TINT_ACCENT_COLOR_DARK)));
-        dynamicAppTheme.setTextPrimaryColor(getValueFromColor(
-                jsonObject.getString(ADS_NAME_TEXT_PRIMARY_COLOR)), false);
-        dynamicAppTheme.setTextPrimaryColorInverse(getValueFromColor(
-                jsonObject.getString(ADS_NAME_TEXT_PRIMARY_COLOR_INVERSE)));
-        dynamicAppTheme.setTextSecondaryColor(getValueFromColor(
-                jsonObject.getString(ADS_NAME_TEXT_SECONDARY_COLOR)), false);
-        dynamicAppTheme.setTextSecondaryColorInverse(getValueFromColor(
-                jsonObject.getString(ADS_NAME_TEXT_SECONDARY_COLOR_INVERSE)));
-        dynamicAppTheme.setCornerRadius(getValueFromCornerRadius(
-                jsonObject.getString(ADS_NAME_CORNER_RADIUS)));
-        dynamicAppTheme.setBackgroundAware(getValueFromBackgroundAware(
-                jsonObject.getString(ADS_NAME_BACKGROUND_AWARE)));
-
-        return dynamicAppTheme;
+            throws ParseException {
+        return DynamicThemeParser.parseAppTheme(dynamicTheme);
     }
 
     /**
@@ -249,17 +273,15 @@ public class DynamicThemeUtils {
      * @param dynamicTheme The dynamic string to generate the theme.
      *
      * @return The generated dynamic widget theme.
+     *
+     * @throws ParseException If the dynamic string is not valid, the error offset will be
+     *         the position of the first error in the dynamic string.
+     *
+     * @see DynamicThemeParser#parseWidgetTheme(String)
      */
     public static @NonNull DynamicWidgetTheme getWidgetTheme(@NonNull String dynamicTheme)
-            throws Exception {
-        DynamicWidgetTheme dynamicWidgetTheme = new DynamicWidgetTheme(getAppTheme(dynamicTheme));
-        JSONObject jsonObject = new JSONObject(formatDynamicTheme(dynamicTheme));
-
-        dynamicWidgetTheme.setHeader(getValueFromVisibility(
-                jsonObject.getString(ADS_NAME_HEADER)));
-        dynamicWidgetTheme.setCornerRadius(jsonObject.getInt(ADS_NAME_CORNER_RADIUS));
-
-        return dynamicWidgetTheme;
+            throws ParseException {
+        return DynamicThemeParser.parseWidgetTheme(dynamicTheme);
     }
 
     /**
@@ -109,7 +109,7 @@ public class DynamicInfoView extends DynamicView {
     /**
      * Icon tint color for the links used by this view.
      */
-    private @ColorInt Integer[] mLinksColors;
+    private @ColorInt int[] mLinksColors;
 
     /**
      * Image view to show the icon.
@@ -548,7 +548,7 @@ public class DynamicInfoView extends DynamicView {
      *
      * @return The icon tint color for the links used by this view.
      */
-    public @Nullable @ColorInt Integer[] getLinksColors() {
+    public @Nullable @ColorInt int[] getLinksColors() {
         return mLinksColors;
     }
 
@@ -560,7 +560,7 @@ public class DynamicInfoView extends DynamicView {
      *
      * @param linksColors The icon tint color for the links to be set.
      */
-    public void setLinksColors(@Nullable @ColorInt Integer[] linksColors) {
+    public void setLinksColors(@Nullable @ColorInt int[] linksColors) {
         this.mLinksColors = linksColors;
     }
 
@@ -28,13 +28,15 @@ import com.google.android.material.appbar.AppBarLayout;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * An AppBarLayout to apply color filter according to the supplied parameters.
  */
-public class DynamicAppBarLayout extends AppBarLayout implements DynamicWidget {
+public class DynamicAppBarLayout extends AppBarLayout implements
+        DynamicWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -74,6 +76,11 @@ public class DynamicAppBarLayout extends AppBarLayout implements DynamicWidget {
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicAppBarLayout(@NonNull Context context) {
         this(context, null);
     }
@@ -114,6 +121,10 @@ public class DynamicAppBarLayout extends AppBarLayout implements DynamicWidget {
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -128,6 +139,22 @@ public class DynamicAppBarLayout extends AppBarLayout implements DynamicWidget {
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -205,6 +232,10 @@ public class DynamicAppBarLayout extends AppBarLayout implements DynamicWidget {
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -31,14 +31,15 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTextWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * A BottomNavigationView to change its text and indicator color according to the
  * supplied parameters.
  */
-public class DynamicBottomNavigationView extends BottomNavigationView
-        implements DynamicTextWidget {
+public class DynamicBottomNavigationView extends BottomNavigationView implements
+        DynamicTextWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -90,6 +91,11 @@ public class DynamicBottomNavigationView extends BottomNavigationView
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicBottomNavigationView(@NonNull Context context) {
         this(context, null);
     }
@@ -136,6 +142,10 @@ public class DynamicBottomNavigationView extends BottomNavigationView
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -156,6 +166,22 @@ public class DynamicBottomNavigationView extends BottomNavigationView
         setTextColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -262,6 +288,10 @@ public class DynamicBottomNavigationView extends BottomNavigationView
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             setBackgroundColor(mColor);
         }
@@ -31,6 +31,7 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicCornerWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTintWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
@@ -38,7 +39,7 @@ import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
  * A CardView to change its background color according to the supplied parameters.
  */
 public class DynamicCardView extends CardView implements
-        DynamicWidget, DynamicCornerWidget<Float>, DynamicTintWidget {
+        DynamicWidget, DynamicCornerWidget<Float>, DynamicTintWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -83,6 +84,11 @@ public class DynamicCardView extends CardView implements
      */
     private boolean mTintBackground;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicCardView(@NonNull Context context) {
         this(context, null);
     }
@@ -133,6 +139,10 @@ public class DynamicCardView extends CardView implements
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -148,6 +158,22 @@ public class DynamicCardView extends CardView implements
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -247,6 +273,10 @@ public class DynamicCardView extends CardView implements
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -34,6 +34,7 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicTintUtils;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
@@ -42,7 +43,8 @@ import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
 /**
  * A CheckedTextView to change its color according to the supplied parameters.
  */
-public class DynamicCheckedTextView extends AppCompatCheckedTextView implements DynamicWidget {
+public class DynamicCheckedTextView extends AppCompatCheckedTextView implements
+        DynamicWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -82,6 +84,11 @@ public class DynamicCheckedTextView extends AppCompatCheckedTextView implements
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicCheckedTextView(@NonNull Context context) {
         this(context, null);
     }
@@ -129,6 +136,10 @@ public class DynamicCheckedTextView extends AppCompatCheckedTextView implements
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -141,6 +152,22 @@ public class DynamicCheckedTextView extends AppCompatCheckedTextView implements
         }
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -226,6 +253,10 @@ public class DynamicCheckedTextView extends AppCompatCheckedTextView implements
     @TargetApi(Build.VERSION_CODES.M)
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             @ColorInt int tintColor = DynamicTheme.getInstance().get().getTintBackgroundColor();
 
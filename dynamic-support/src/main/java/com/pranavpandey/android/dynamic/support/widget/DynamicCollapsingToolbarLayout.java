@@ -32,19 +32,25 @@ import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.locale.DynamicLocaleUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.BaseWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicRtlWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 
 /**
  * A CollapsingToolbarLayout to provide support for Right to Left (RTL) layouts.
  */
 @TargetApi(Build.VERSION_CODES.LOLLIPOP)
-public class DynamicCollapsingToolbarLayout extends CollapsingToolbarLayout
-        implements BaseWidget, DynamicRtlWidget {
+public class DynamicCollapsingToolbarLayout extends CollapsingToolbarLayout implements
+        BaseWidget, DynamicRtlWidget, DynamicUpdateWidget {
 
     /**
      * {@code true} if dynamic RTL support is enabled for this widget.
      */
     private boolean mRtlSupport;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicCollapsingToolbarLayout(@NonNull Context context) {
         this(context, null);
     }
@@ -80,9 +86,29 @@ public class DynamicCollapsingToolbarLayout extends CollapsingToolbarLayout
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         setRtlSupport(mRtlSupport);
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public boolean isRtlSupport() {
         return mRtlSupport;
@@ -30,13 +30,15 @@ import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicInputUtils;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * An EditText to change its color according to the supplied parameters.
  */
-public class DynamicEditText extends AppCompatEditText implements DynamicWidget {
+public class DynamicEditText extends AppCompatEditText implements
+        DynamicWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -76,6 +78,11 @@ public class DynamicEditText extends AppCompatEditText implements DynamicWidget
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicEditText(@NonNull Context context) {
         this(context, null);
     }
@@ -132,6 +139,10 @@ public class DynamicEditText extends AppCompatEditText implements DynamicWidget
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -146,6 +157,22 @@ public class DynamicEditText extends AppCompatEditText implements DynamicWidget
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -223,6 +250,10 @@ public class DynamicEditText extends AppCompatEditText implements DynamicWidget
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
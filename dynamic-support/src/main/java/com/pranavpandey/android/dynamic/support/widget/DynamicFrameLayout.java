@@ -30,6 +30,7 @@ import androidx.annotation.Nullable;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
@@ -37,7 +38,7 @@ import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
 /**
  * A FrameLayout to apply background color according to the supplied parameters.
  */
-public class DynamicFrameLayout extends FrameLayout implements DynamicWidget {
+public class DynamicFrameLayout extends FrameLayout implements DynamicWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -77,6 +78,11 @@ public class DynamicFrameLayout extends FrameLayout implements DynamicWidget {
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicFrameLayout(@NonNull Context context) {
         this(context, null);
     }
@@ -124,6 +130,10 @@ public class DynamicFrameLayout extends FrameLayout implements DynamicWidget {
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -138,6 +148,22 @@ public class DynamicFrameLayout extends FrameLayout implements DynamicWidget {
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -215,6 +241,10 @@ public class DynamicFrameLayout extends FrameLayout implements DynamicWidget {
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
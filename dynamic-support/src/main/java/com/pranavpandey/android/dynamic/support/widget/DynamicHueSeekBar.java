@@ -18,6 +18,8 @@ package com.pranavpandey.android.dynamic.support.widget;
 
 import android.annotation.TargetApi;
 import android.content.Context;
+import android.graphics.drawable.ShapeDrawable;
+import android.graphics.drawable.shapes.RectShape;
 import android.os.Build;
 import android.util.AttributeSet;
 
@@ -33,6 +35,11 @@ import com.pranavpandey.android.dynamic.support.utils.DynamicSeekBarUtils;
 @TargetApi(Build.VERSION_CODES.LOLLIPOP)
 public class DynamicHueSeekBar extends DynamicSeekBar {
 
+    /**
+     * Drawable to draw the hue spectrum, reused till the width is changed.
+     */
+    private final ShapeDrawable mHueDrawable = new ShapeDrawable(new RectShape());
+
     public DynamicHueSeekBar(@NonNull Context context) {
         this(context, null);
     }
@@ -50,7 +57,7 @@ public class DynamicHueSeekBar extends DynamicSeekBar {
     protected void onSizeChanged(int w, int h, int oldw, int oldh) {
         super.onSizeChanged(w, h, oldw, oldh);
 
-        DynamicSeekBarUtils.setHueDrawable(this);
+        DynamicSeekBarUtils.setHueDrawable(this, mHueDrawable);
     }
 
     @Override
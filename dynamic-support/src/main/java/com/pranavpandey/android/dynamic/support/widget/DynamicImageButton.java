@@ -34,14 +34,15 @@ import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicTintUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTintWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * An AppCompatButton to change its color according to the supplied parameters.
  */
-public class DynamicImageButton extends AppCompatImageButton
-        implements DynamicWidget, DynamicTintWidget {
+public class DynamicImageButton extends AppCompatImageButton implements
+        DynamicWidget, DynamicTintWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -91,6 +92,11 @@ public class DynamicImageButton extends AppCompatImageButton
      */
     private boolean mTintBackground;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicImageButton(@NonNull Context context) {
         this(context, null);
     }
@@ -163,6 +169,10 @@ public class DynamicImageButton extends AppCompatImageButton
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -177,6 +187,22 @@ public class DynamicImageButton extends AppCompatImageButton
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -274,6 +300,10 @@ public class DynamicImageButton extends AppCompatImageButton
     @SuppressLint("RestrictedApi")
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -31,12 +31,14 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicScrollUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicScrollableWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * A ListView to apply color filter according to the supplied parameters.
  */
-public class DynamicListView extends ListView implements DynamicScrollableWidget {
+public class DynamicListView extends ListView implements
+        DynamicScrollableWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -88,6 +90,11 @@ public class DynamicListView extends ListView implements DynamicScrollableWidget
      */
     private @ColorInt int mScrollBarColor;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicListView(@NonNull Context context) {
         this(context, null);
     }
@@ -141,6 +148,10 @@ public class DynamicListView extends ListView implements DynamicScrollableWidget
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -161,6 +172,22 @@ public class DynamicListView extends ListView implements DynamicScrollableWidget
         setColor(true);
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -256,6 +283,10 @@ public class DynamicListView extends ListView implements DynamicScrollableWidget
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -267,6 +298,10 @@ public class DynamicListView extends ListView implements DynamicScrollableWidget
 
     @Override
     public void setScrollBarColor() {
+        if (mUpdater != null && mUpdater.deferScrollBarColor()) {
+            return;
+        }
+
         if (mScrollBarColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mScrollBarColor = DynamicColorUtils.getContrastColor(
@@ -34,6 +34,7 @@ import com.pranavpandey.android.dynamic.support.utils.DynamicScrollUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicBackgroundWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicScrollableWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicStateSelectedWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
@@ -43,7 +44,8 @@ import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
  * supplied parameters.
  */
 public class DynamicNavigationView extends NavigationView implements
-        DynamicBackgroundWidget, DynamicScrollableWidget, DynamicStateSelectedWidget {
+        DynamicBackgroundWidget, DynamicScrollableWidget, DynamicStateSelectedWidget,
+        DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -131,6 +133,11 @@ public class DynamicNavigationView extends NavigationView implements
      */
     private @ColorInt int mStateSelectedColor;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicNavigationView(@NonNull Context context) {
         this(context, null);
     }
@@ -202,6 +209,10 @@ public class DynamicNavigationView extends NavigationView implements
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mBackgroundColorType != Theme.ColorType.NONE
                 && mBackgroundColorType != Theme.ColorType.CUSTOM) {
             mBackgroundColor = DynamicTheme.getInstance()
@@ -243,6 +254,22 @@ public class DynamicNavigationView extends NavigationView implements
         setStatesColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getBackgroundColorType() {
         return mBackgroundColorType;
@@ -416,6 +443,10 @@ public class DynamicNavigationView extends NavigationView implements
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -427,6 +458,10 @@ public class DynamicNavigationView extends NavigationView implements
 
     @Override
     public void setScrollBarColor() {
+        if (mUpdater != null && mUpdater.deferScrollBarColor()) {
+            return;
+        }
+
         if (mScrollBarColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mScrollBarColor = DynamicColorUtils.getContrastColor(
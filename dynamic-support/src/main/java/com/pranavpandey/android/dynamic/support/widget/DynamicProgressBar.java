@@ -31,6 +31,7 @@ import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
@@ -39,7 +40,8 @@ import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
 /**
  * A ContentLoadingProgressBar to apply color filter according to the supplied parameters.
  */
-public class DynamicProgressBar extends ContentLoadingProgressBar implements DynamicWidget {
+public class DynamicProgressBar extends ContentLoadingProgressBar implements
+        DynamicWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -79,6 +81,11 @@ public class DynamicProgressBar extends ContentLoadingProgressBar implements Dyn
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicProgressBar(@NonNull Context context) {
         this(context, null);
     }
@@ -119,6 +126,10 @@ public class DynamicProgressBar extends ContentLoadingProgressBar implements Dyn
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -133,6 +144,22 @@ public class DynamicProgressBar extends ContentLoadingProgressBar implements Dyn
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -211,6 +238,10 @@ public class DynamicProgressBar extends ContentLoadingProgressBar implements Dyn
     @TargetApi(Build.VERSION_CODES.LOLLIPOP)
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -34,13 +34,15 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.utils.DynamicTintUtils;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * A RadioButton to apply color filter according to the supplied parameters.
  */
-public class DynamicRadioButton extends MaterialRadioButton implements DynamicWidget {
+public class DynamicRadioButton extends MaterialRadioButton implements
+        DynamicWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -80,6 +82,11 @@ public class DynamicRadioButton extends MaterialRadioButton implements DynamicWi
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicRadioButton(@NonNull Context context) {
         this(context, null);
     }
@@ -127,6 +134,10 @@ public class DynamicRadioButton extends MaterialRadioButton implements DynamicWi
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -141,6 +152,22 @@ public class DynamicRadioButton extends MaterialRadioButton implements DynamicWi
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -220,6 +247,10 @@ public class DynamicRadioButton extends MaterialRadioButton implements DynamicWi
     @TargetApi(Build.VERSION_CODES.LOLLIPOP)
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             @ColorInt int tintColor = DynamicTheme.getInstance().get().getTintBackgroundColor();
 
@@ -31,12 +31,14 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicScrollUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicScrollableWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * A RecyclerView to apply color filter according to the supplied parameters.
  */
-public class DynamicRecyclerView extends RecyclerView implements DynamicScrollableWidget {
+public class DynamicRecyclerView extends RecyclerView implements
+        DynamicScrollableWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -88,6 +90,11 @@ public class DynamicRecyclerView extends RecyclerView implements DynamicScrollab
      */
     private @ColorInt int mScrollBarColor;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicRecyclerView(@NonNull Context context) {
         this(context, null);
     }
@@ -141,6 +148,10 @@ public class DynamicRecyclerView extends RecyclerView implements DynamicScrollab
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -161,6 +172,22 @@ public class DynamicRecyclerView extends RecyclerView implements DynamicScrollab
         setColor(true);
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -258,22 +285,35 @@ public class DynamicRecyclerView extends RecyclerView implements DynamicScrollab
     public void onScrollStateChanged(int state) {
         super.onScrollStateChanged(state);
 
-        setColor(true);
+        // Edge effects created by a custom factory have to be tinted again.
+        if (!DynamicScrollUtils.isEdgeEffectFactoryTint(this)) {
+            setColor();
+        }
+
+        setScrollBarColor();
     }
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
             }
 
-            DynamicScrollUtils.setEdgeEffectColor(this, mColor);
+            DynamicScrollUtils.setEdgeEffectFactory(this, mColor);
         }
     }
 
     @Override
     public void setScrollBarColor() {
+        if (mUpdater != null && mUpdater.deferScrollBarColor()) {
+            return;
+        }
+
         if (mScrollBarColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mScrollBarColor = DynamicColorUtils.getContrastColor(
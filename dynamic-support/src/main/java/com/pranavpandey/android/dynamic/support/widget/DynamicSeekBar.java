@@ -33,6 +33,7 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicProgressWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
@@ -41,7 +42,8 @@ import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
  * A SeekBar to change its color according to the supplied parameters.
  */
 @TargetApi(Build.VERSION_CODES.LOLLIPOP)
-public class DynamicSeekBar extends AppCompatSeekBar implements DynamicProgressWidget {
+public class DynamicSeekBar extends AppCompatSeekBar implements
+        DynamicProgressWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -81,6 +83,11 @@ public class DynamicSeekBar extends AppCompatSeekBar implements DynamicProgressW
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicSeekBar(@NonNull Context context) {
         this(context, null);
     }
@@ -128,6 +135,10 @@ public class DynamicSeekBar extends AppCompatSeekBar implements DynamicProgressW
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -142,6 +153,22 @@ public class DynamicSeekBar extends AppCompatSeekBar implements DynamicProgressW
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -219,6 +246,10 @@ public class DynamicSeekBar extends AppCompatSeekBar implements DynamicProgressW
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -30,6 +30,7 @@ import androidx.appcompat.widget.AppCompatSpinner;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicDrawableUtils;
@@ -38,7 +39,7 @@ import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
 /**
  * A Spinner to change its color according to the supplied parameters.
  */
-public class DynamicSpinner extends AppCompatSpinner implements DynamicWidget {
+public class DynamicSpinner extends AppCompatSpinner implements DynamicWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -78,6 +79,11 @@ public class DynamicSpinner extends AppCompatSpinner implements DynamicWidget {
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicSpinner(@NonNull Context context) {
         this(context, null);
     }
@@ -125,6 +131,10 @@ public class DynamicSpinner extends AppCompatSpinner implements DynamicWidget {
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -139,6 +149,22 @@ public class DynamicSpinner extends AppCompatSpinner implements DynamicWidget {
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -216,6 +242,10 @@ public class DynamicSpinner extends AppCompatSpinner implements DynamicWidget {
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
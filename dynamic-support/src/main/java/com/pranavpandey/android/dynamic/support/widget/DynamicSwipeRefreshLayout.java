@@ -29,13 +29,15 @@ import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 import com.pranavpandey.android.dynamic.support.R;
 import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * A SwipeRefreshLayout to apply color filter according to the supplied parameters.
  */
-public class DynamicSwipeRefreshLayout extends SwipeRefreshLayout implements DynamicWidget {
+public class DynamicSwipeRefreshLayout extends SwipeRefreshLayout implements
+        DynamicWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -75,6 +77,11 @@ public class DynamicSwipeRefreshLayout extends SwipeRefreshLayout implements Dyn
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicSwipeRefreshLayout(@NonNull Context context) {
         this(context, null);
     }
@@ -115,6 +122,10 @@ public class DynamicSwipeRefreshLayout extends SwipeRefreshLayout implements Dyn
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -129,6 +140,22 @@ public class DynamicSwipeRefreshLayout extends SwipeRefreshLayout implements Dyn
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -199,6 +226,10 @@ public class DynamicSwipeRefreshLayout extends SwipeRefreshLayout implements Dyn
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             @ColorInt int accentColor = DynamicColorUtils.getAccentColor(mColor);
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
@@ -31,12 +31,14 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicStateWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * A Switch to change its color according to the supplied parameters.
  */
-public class DynamicSwitchCompat extends SwitchMaterial implements DynamicStateWidget {
+public class DynamicSwitchCompat extends SwitchMaterial implements
+        DynamicStateWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -86,6 +88,11 @@ public class DynamicSwitchCompat extends SwitchMaterial implements DynamicStateW
      */
     private @ColorInt int mStateNormalColor;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicSwitchCompat(@NonNull Context context) {
         this(context, null);
     }
@@ -139,6 +146,10 @@ public class DynamicSwitchCompat extends SwitchMaterial implements DynamicStateW
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -159,6 +170,22 @@ public class DynamicSwitchCompat extends SwitchMaterial implements DynamicStateW
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -265,6 +292,10 @@ public class DynamicSwitchCompat extends SwitchMaterial implements DynamicStateW
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
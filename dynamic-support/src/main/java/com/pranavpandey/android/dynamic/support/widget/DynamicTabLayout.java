@@ -33,13 +33,14 @@ import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicBackgroundWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTextWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * A TabLayout to change its indicator and text color according to the supplied parameters.
  */
 public class DynamicTabLayout extends TabLayout implements
-        DynamicBackgroundWidget, DynamicTextWidget {
+        DynamicBackgroundWidget, DynamicTextWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -103,6 +104,11 @@ public class DynamicTabLayout extends TabLayout implements
      */
     private @ColorInt int mTextColor;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicTabLayout(@NonNull Context context) {
         this(context, null);
     }
@@ -162,6 +168,10 @@ public class DynamicTabLayout extends TabLayout implements
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mBackgroundColorType != Theme.ColorType.NONE
                 && mBackgroundColorType != Theme.ColorType.CUSTOM) {
             mBackgroundColor = DynamicTheme.getInstance()
@@ -189,6 +199,22 @@ public class DynamicTabLayout extends TabLayout implements
         setTextColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getBackgroundColorType() {
         return mBackgroundColorType;
@@ -321,6 +347,10 @@ public class DynamicTabLayout extends TabLayout implements
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -32,6 +32,7 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicInputUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicCornerWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicUnitUtils;
@@ -40,7 +41,7 @@ import com.pranavpandey.android.dynamic.utils.DynamicUnitUtils;
  * A TextInputLayout to change its color according to the supplied parameters.
  */
 public class DynamicTextInputLayout extends TextInputLayout implements
-        DynamicWidget, DynamicCornerWidget<Float> {
+        DynamicWidget, DynamicCornerWidget<Float>, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -80,6 +81,11 @@ public class DynamicTextInputLayout extends TextInputLayout implements
      */
     private @Theme.BackgroundAware int mBackgroundAware;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicTextInputLayout(@NonNull Context context) {
         this(context, null);
     }
@@ -127,6 +133,10 @@ public class DynamicTextInputLayout extends TextInputLayout implements
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -142,6 +152,22 @@ public class DynamicTextInputLayout extends TextInputLayout implements
         setColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -234,6 +260,10 @@ public class DynamicTextInputLayout extends TextInputLayout implements
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
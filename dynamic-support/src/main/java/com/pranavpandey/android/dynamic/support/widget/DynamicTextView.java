@@ -36,6 +36,7 @@ import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicLinkWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicRtlWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
@@ -44,7 +45,7 @@ import com.pranavpandey.android.dynamic.utils.DynamicVersionUtils;
  * A TextView to change its color according to the supplied parameters.
  */
 public class DynamicTextView extends AppCompatTextView implements
-        DynamicWidget, DynamicLinkWidget, DynamicRtlWidget {
+        DynamicWidget, DynamicLinkWidget, DynamicRtlWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -106,6 +107,11 @@ public class DynamicTextView extends AppCompatTextView implements
      */
     private boolean mRtlSupport;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicTextView(@NonNull Context context) {
         this(context, null);
     }
@@ -168,39 +174,20 @@ public class DynamicTextView extends AppCompatTextView implements
 
     @Override
     public void initialize() {
-        if (mColorType == Theme.ColorType.NONE) {
-            if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorPrimary)) {
-                mColorType = Theme.ColorType.TEXT_PRIMARY;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorSecondary)) {
-                mColorType = Theme.ColorType.TEXT_SECONDARY;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorPrimaryInverse)) {
-                mColorType = Theme.ColorType.TEXT_PRIMARY_INVERSE;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorSecondaryInverse)) {
-                mColorType = Theme.ColorType.TEXT_SECONDARY_INVERSE;
-            } else {
-                mColorType = Theme.ColorType.TEXT_PRIMARY;
-            }
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
         }
 
-        if (mLinkColorType == Theme.ColorType.NONE) {
-            if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorPrimary)) {
-                mLinkColorType = Theme.ColorType.TEXT_PRIMARY;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorSecondary)) {
-                mLinkColorType = Theme.ColorType.TEXT_SECONDARY;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorPrimaryInverse)) {
-                mLinkColorType = Theme.ColorType.TEXT_PRIMARY_INVERSE;
-            } else if (mColorAttrRes == DynamicResourceUtils.getResourceId(
-                    getContext(), android.R.attr.textColorSecondaryInverse)) {
-                mLinkColorType = Theme.ColorType.TEXT_SECONDARY_INVERSE;
-            } else {
-                mLinkColorType = Theme.ColorType.TEXT_PRIMARY;
+        if (mColorType == Theme.ColorType.NONE
+                || mLinkColorType == Theme.ColorType.NONE) {
+            @Theme.ColorType int colorType = getTextColorType();
+
+            if (mColorType == Theme.ColorType.NONE) {
+                mColorType = colorType;
+            }
+
+            if (mLinkColorType == Theme.ColorType.NONE) {
+                mLinkColorType = colorType;
             }
         }
 
@@ -223,6 +210,45 @@ public class DynamicTextView extends AppCompatTextView implements
         setRtlSupport(mRtlSupport);
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
+    /**
+     * Get the color type according to the text color attribute applied to this view.
+     *
+     * @return The color type according to the text color attribute applied to this view.
+     */
+    private @Theme.ColorType int getTextColorType() {
+        if (mColorAttrRes == WidgetAttributes.getResourceId(
+                getContext(), android.R.attr.textColorPrimary)) {
+            return Theme.ColorType.TEXT_PRIMARY;
+        } else if (mColorAttrRes == WidgetAttributes.getResourceId(
+                getContext(), android.R.attr.textColorSecondary)) {
+            return Theme.ColorType.TEXT_SECONDARY;
+        } else if (mColorAttrRes == WidgetAttributes.getResourceId(
+                getContext(), android.R.attr.textColorPrimaryInverse)) {
+            return Theme.ColorType.TEXT_PRIMARY_INVERSE;
+        } else if (mColorAttrRes == WidgetAttributes.getResourceId(
+                getContext(), android.R.attr.textColorSecondaryInverse)) {
+            return Theme.ColorType.TEXT_SECONDARY_INVERSE;
+        } else {
+            return Theme.ColorType.TEXT_PRIMARY;
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -332,6 +358,10 @@ public class DynamicTextView extends AppCompatTextView implements
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -33,12 +33,13 @@ import com.pranavpandey.android.dynamic.support.theme.DynamicTheme;
 import com.pranavpandey.android.dynamic.support.theme.Theme;
 import com.pranavpandey.android.dynamic.support.utils.DynamicMenuUtils;
 import com.pranavpandey.android.dynamic.support.widget.base.DynamicTextWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
 import com.pranavpandey.android.dynamic.utils.DynamicColorUtils;
 
 /**
  * A Toolbar to change its background and text color according to the supplied parameters.
  */
-public class DynamicToolbar extends Toolbar implements DynamicTextWidget {
+public class DynamicToolbar extends Toolbar implements DynamicTextWidget, DynamicUpdateWidget {
 
     /**
      * Color type applied to this view.
@@ -90,6 +91,11 @@ public class DynamicToolbar extends Toolbar implements DynamicTextWidget {
      */
     private @ColorInt int mTextColor;
 
+    /**
+     * Helper to perform the batch updates for this view.
+     */
+    private WidgetUpdater mUpdater;
+
     public DynamicToolbar(@NonNull Context context) {
         this(context, null);
     }
@@ -142,6 +148,10 @@ public class DynamicToolbar extends Toolbar implements DynamicTextWidget {
 
     @Override
     public void initialize() {
+        if (mUpdater != null && mUpdater.deferInitialize()) {
+            return;
+        }
+
         if (mColorType != Theme.ColorType.NONE
                 && mColorType != Theme.ColorType.CUSTOM) {
             mColor = DynamicTheme.getInstance().resolveColorType(mColorType);
@@ -162,6 +172,22 @@ public class DynamicToolbar extends Toolbar implements DynamicTextWidget {
         setTextColor();
     }
 
+    @Override
+    public void beginUpdate() {
+        if (mUpdater == null) {
+            mUpdater = new WidgetUpdater(this);
+        }
+
+        mUpdater.beginUpdate();
+    }
+
+    @Override
+    public void endUpdate() {
+        if (mUpdater != null) {
+            mUpdater.endUpdate();
+        }
+    }
+
     @Override
     public @Theme.ColorType int getColorType() {
         return mColorType;
@@ -270,6 +296,10 @@ public class DynamicToolbar extends Toolbar implements DynamicTextWidget {
 
     @Override
     public void setColor() {
+        if (mUpdater != null && mUpdater.deferColor()) {
+            return;
+        }
+
         if (mColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
             if (isBackgroundAware() && mContrastWithColor != WidgetDefaults.ADS_COLOR_UNKNOWN) {
                 mColor = DynamicColorUtils.getContrastColor(mColor, mContrastWithColor);
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.widget;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.util.SparseIntArray;
+
+import androidx.annotation.AttrRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pranavpandey.android.dynamic.support.utils.DynamicResourceUtils;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Cache of the theme attributes resolved by the dynamic widgets.
+ * <p>Attributes are resolved once for each {@link Resources.Theme} and shared by all the
+ * widgets using that theme. It must be invalidated whenever a style is applied on the theme.
+ */
+public class WidgetAttributes {
+
+    /**
+     * Resolved attributes mapped to their theme.
+     */
+    private static final Map<Resources.Theme, Attributes> sAttributes = new WeakHashMap<>();
+
+    /**
+     * Get the value resource id of the supplied attribute from the context theme.
+     *
+     * @param context The context to retrieve the theme.
+     * @param attrRes The resource id of the attribute.
+     *
+     * @return The value resource id of the supplied attribute.
+     *
+     * @see DynamicResourceUtils#getResourceId(Context, int)
+     */
+    public static int getResourceId(@NonNull Context context, @AttrRes int attrRes) {
+        synchronized (sAttributes) {
+            Attributes attributes = getAttributes(context.getTheme());
+            int index = attributes.resourceIds.indexOfKey(attrRes);
+            if (index >= 0) {
+                return attributes.resourceIds.valueAt(index);
+            }
+
+            int resourceId = DynamicResourceUtils.getResourceId(context, attrRes);
+            attributes.resourceIds.put(attrRes, resourceId);
+
+            return resourceId;
+        }
+    }
+
+    /**
+     * Invalidate the resolved attributes of the supplied theme.
+     * <p>It should be called after applying a style on the theme.
+     *
+     * @param theme The theme to invalidate the resolved attributes.
+     *              <p>Pass {@code null} to invalidate all the themes.
+     */
+    public static void invalidate(@Nullable Resources.Theme theme) {
+        synchronized (sAttributes) {
+            if (theme != null) {
+                sAttributes.remove(theme);
+            } else {
+                sAttributes.clear();
+            }
+        }
+    }
+
+    /**
+     * Get the resolved attributes of the supplied theme.
+     *
+     * @param theme The theme to get the resolved attributes.
+     *
+     * @return The resolved attributes of the supplied theme.
+     */
+    private static @NonNull Attributes getAttributes(@NonNull Resources.Theme theme) {
+        Attributes attributes = sAttributes.get(theme);
+        if (attributes == null) {
+            attributes = new Attributes();
+            sAttributes.put(theme, attributes);
+        }
+
+        return attributes;
+    }
+
+    /**
+     * Attributes resolved from a theme.
+     */
+    private static final class Attributes {
+
+        /**
+         * Value resource ids mapped to their attribute.
+         */
+        final SparseIntArray resourceIds = new SparseIntArray();
+    }
+}
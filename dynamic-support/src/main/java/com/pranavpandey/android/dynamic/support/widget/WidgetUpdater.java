@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.widget;
+
+import androidx.annotation.NonNull;
+
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicScrollableWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicUpdateWidget;
+import com.pranavpandey.android.dynamic.support.widget.base.DynamicWidget;
+
+/**
+ * Helper class to perform the batch updates for a {@link DynamicUpdateWidget}.
+ * <p>It keeps the number of batch updates in progress and the updates deferred till the end
+ * of them, so that the widget has to apply them only once.
+ */
+public class WidgetUpdater {
+
+    /**
+     * Constant for no pending update.
+     */
+    private static final int ADS_UPDATE_NONE = 0;
+
+    /**
+     * Constant to set the color after the batch updates.
+     */
+    private static final int ADS_UPDATE_COLOR = 1;
+
+    /**
+     * Constant to set the scroll bar color after the batch updates.
+     */
+    private static final int ADS_UPDATE_SCROLL_BAR_COLOR = 1 << 1;
+
+    /**
+     * Constant to initialize the widget after the batch updates.
+     */
+    private static final int ADS_UPDATE_INITIALIZE = 1 << 2;
+
+    /**
+     * Widget to apply the deferred updates.
+     */
+    private final DynamicUpdateWidget mWidget;
+
+    /**
+     * Number of batch updates in progress for the widget.
+     */
+    private int mUpdates;
+
+    /**
+     * Updates deferred till the end of the batch updates.
+     */
+    private int mPendingUpdates;
+
+    /**
+     * Constructor to initialize an object of this class.
+     *
+     * @param widget The widget to apply the deferred updates.
+     */
+    public WidgetUpdater(@NonNull DynamicUpdateWidget widget) {
+        this.mWidget = widget;
+    }
+
+    /**
+     * Begin a batch update of the widget.
+     */
+    public void beginUpdate() {
+        mUpdates++;
+    }
+
+    /**
+     * End a batch update of the widget and apply the deferred updates if it was the
+     * outermost one.
+     */
+    public void endUpdate() {
+        if (mUpdates == 0 || --mUpdates > 0) {
+            return;
+        }
+
+        int updates = mPendingUpdates;
+        mPendingUpdates = ADS_UPDATE_NONE;
+
+        if ((updates & ADS_UPDATE_INITIALIZE) != 0) {
+            mWidget.initialize();
+            return;
+        }
+
+        if ((updates & ADS_UPDATE_COLOR) != 0 && mWidget instanceof DynamicWidget) {
+            ((DynamicWidget) mWidget).setColor();
+        }
+
+        if ((updates & ADS_UPDATE_SCROLL_BAR_COLOR) != 0
+                && mWidget instanceof DynamicScrollableWidget) {
+            ((DynamicScrollableWidget) mWidget).setScrollBarColor();
+        }
+    }
+
+    /**
+     * Defer the initialization of the widget if a batch update is in progress.
+     *
+     * @return {@code true} if the initialization has been deferred.
+     *
+     * @see DynamicUpdateWidget#initialize()
+     */
+    public boolean deferInitialize() {
+        return defer(ADS_UPDATE_INITIALIZE);
+    }
+
+    /**
+     * Defer setting the color of the widget if a batch update is in progress.
+     *
+     * @return {@code true} if setting the color has been deferred.
+     *
+     * @see DynamicWidget#setColor()
+     */
+    public boolean deferColor() {
+        return defer(ADS_UPDATE_COLOR);
+    }
+
+    /**
+     * Defer setting the scroll bar color of the widget if a batch update is in progress.
+     *
+     * @return {@code true} if setting the scroll bar color has been deferred.
+     *
+     * @see DynamicScrollableWidget#setScrollBarColor()
+     */
+    public boolean deferScrollBarColor() {
+        return defer(ADS_UPDATE_SCROLL_BAR_COLOR);
+    }
+
+    /**
+     * Defer an update of the widget if a batch update is in progress.
+     *
+     * @param update The update to be deferred.
+     *
+     * @return {@code true} if the update has been deferred.
+     */
+    private boolean defer(int update) {
+        if (mUpdates == 0) {
+            return false;
+        }
+
+        mPendingUpdates |= update;
+        return true;
+    }
+}
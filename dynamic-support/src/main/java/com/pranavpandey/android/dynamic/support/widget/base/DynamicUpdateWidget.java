@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018 Pranav Pandey
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pranavpandey.android.dynamic.support.widget.base;
+
+/**
+ * Interface to create widgets with support for the batch updates.
+ * <p>Calls to {@link #initialize()} and the color setters will be deferred till the
+ * matching {@link #endUpdate()}, so that only one tint pass will be applied for all of them.
+ */
+public interface DynamicUpdateWidget extends BaseWidget {
+
+    /**
+     * Begin a batch update of this widget.
+     * <p>Batch updates can be nested and the deferred updates will be applied at the end of
+     * the outermost one.
+     */
+    void beginUpdate();
+
+    /**
+     * End a batch update of this widget and apply the deferred updates, if any.
+     */
+    void endUpdate();
+}